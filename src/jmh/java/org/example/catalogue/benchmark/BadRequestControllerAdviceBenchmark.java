@@ -0,0 +1,46 @@
+package org.example.catalogue.benchmark;
+
+import org.example.catalogue.controller.BadRequestControllerAdvice;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BadRequestControllerAdviceBenchmark {
+
+    BadRequestControllerAdvice advice;
+
+    BindException bindException;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        advice = new BadRequestControllerAdvice(messageSource);
+
+        MapBindingResult bindingResult = new MapBindingResult(new HashMap<>(), "payload");
+        bindingResult.addError(new FieldError("payload", "title", "Название товара не должно быть пустым"));
+        bindingResult.addError(new FieldError("payload", "details",
+                "Описание товара должно быть не более 1000 символов"));
+        bindException = new BindException(bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> handleBindException() {
+        return advice.handleBindException(bindException, Locale.of("ru"));
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.catalogue.benchmark;
+
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductSearchHit;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.repository.ProductRepository;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class InMemoryProductRepository implements ProductRepository {
+    private static final Comparator<Product> BY_TITLE = Comparator.comparing(Product::getTitle)
+            .thenComparing(Product::getId);
+
+    private final NavigableMap<Integer, Product> products = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Product> productsByTitle = new ConcurrentSkipListSet<>(BY_TITLE);
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public List<ProductView> findAllViewsAfterIdOrderById(int afterId, int limit) {
+        return products.tailMap(afterId, false).values().stream()
+                .limit(limit)
+                .map(ProductView::of)
+                .toList();
+    }
+
+    @Override
+    public List<ProductView> findAllViewsAfterTitleOrderByTitle(String afterTitle, int afterId, int limit) {
+        return productsByTitle.tailSet(new Product(afterId, afterTitle, null), false).stream()
+                .limit(limit)
+                .map(ProductView::of)
+                .toList();
+    }
+
+    @Override
+    public List<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(String filter, int afterId,
+                                                                               int limit) {
+        return products.tailMap(afterId, false).values().stream()
+                .filter(titleLike(filter))
+                .limit(limit)
+                .map(ProductView::of)
+                .toList();
+    }
+
+    @Override
+    public List<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle(String filter,
+                                                                                     String afterTitle,
+                                                                                     int afterId, int limit) {
+        return productsByTitle.tailSet(new Product(afterId, afterTitle, null), false).stream()
+                .filter(titleLike(filter))
+                .limit(limit)
+                .map(ProductView::of)
+                .toList();
+    }
+
+    @Override
+    public Optional<ProductView> findViewById(int id) {
+        return Optional.ofNullable(products.get(id))
+                .map(ProductView::of);
+    }
+
+    @Override
+    public List<ProductView> findAllViewsByIdIn(Collection<Integer> ids) {
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ProductView::of)
+                .toList();
+    }
+
+    @Override
+    public Stream<ProductView> streamAllViewsOrderById() {
+        return products.values().stream()
+                .map(ProductView::of);
+    }
+
+    @Override
+    public Stream<ProductView> streamAllViewsByTitleLikeIgnoreCaseOrderById(String filter) {
+        return products.values().stream()
+                .filter(titleLike(filter))
+                .map(ProductView::of);
+    }
+
+    @Override
+    public List<ProductSearchHit> searchAfterRankOrderByRank(String query, float afterRank, int afterId,
+                                                             int limit) {
+        List<String> terms = List.of(query.toLowerCase(Locale.ROOT).split("\\s+"));
+        return products.values().stream()
+                .map(product -> {
+                    String text = (product.getTitle() + " " + Objects.requireNonNullElse(product.getDetails(), ""))
+                            .toLowerCase(Locale.ROOT);
+                    float rank = terms.stream().filter(text::contains).count() / (float) terms.size();
+                    return new ProductSearchHit(product.getId(), product.getTitle(), product.getDetails(), rank,
+                            HtmlUtils.htmlEscape(product.getTitle()),
+                            HtmlUtils.htmlEscape(Objects.requireNonNullElse(product.getDetails(), "")));
+                })
+                .filter(hit -> hit.rank() > 0)
+                .filter(hit -> hit.rank() < afterRank || hit.rank() == afterRank && hit.id() > afterId)
+                .sorted(Comparator.comparing(ProductSearchHit::rank).reversed()
+                        .thenComparing(ProductSearchHit::id))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int updateTitleAndDetailsById(Integer id, String title, String details) {
+        Product product = products.get(id);
+        if (product == null) {
+            return 0;
+        }
+
+        save(new Product(id, title, details, product.getVersion() + 1));
+        return 1;
+    }
+
+    @Override
+    public int deleteProductById(Integer id) {
+        Product product = products.remove(id);
+        if (product == null) {
+            return 0;
+        }
+
+        productsByTitle.remove(product);
+        return 1;
+    }
+
+    @Override
+    public <S extends Product> S save(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(sequence.incrementAndGet());
+            entity.setVersion(0L);
+        }
+
+        Product previous = products.put(entity.getId(), entity);
+        if (previous != null) {
+            productsByTitle.remove(previous);
+        }
+        productsByTitle.add(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends Product> Iterable<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public Optional<Product> findById(Integer id) {
+        return Optional.ofNullable(products.get(id));
+    }
+
+    @Override
+    public boolean existsById(Integer id) {
+        return products.containsKey(id);
+    }
+
+    @Override
+    public Iterable<Product> findAll() {
+        return List.copyOf(products.values());
+    }
+
+    @Override
+    public Iterable<Product> findAllById(Iterable<Integer> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(products::get)
+                .filter(product -> product != null)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return products.size();
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        deleteProductById(id);
+    }
+
+    @Override
+    public void delete(Product entity) {
+        deleteProductById(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Integer> ids) {
+        ids.forEach(this::deleteProductById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Product> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        products.clear();
+        productsByTitle.clear();
+    }
+
+    private static Predicate<Product> titleLike(String filter) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < filter.length(); i++) {
+            char c = filter.charAt(i);
+            if (c == '\\' && i + 1 < filter.length()) {
+                regex.append(Pattern.quote(String.valueOf(filter.charAt(++i))));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+
+        Pattern pattern = Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE
+                | Pattern.DOTALL);
+        return product -> pattern.matcher(product.getTitle()).matches();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.catalogue.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedOutputStream;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.web.ProductProtobufHttpMessageConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    private static final Type PRODUCT_LIST_TYPE = new ParameterizedTypeReference<List<ProductView>>() {
+    }.getType();
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    String format;
+
+    @Param({"50", "500"})
+    int listSize;
+
+    GenericHttpMessageConverter<Object> converter;
+
+    MediaType mediaType;
+
+    List<ProductView> products;
+
+    byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper payloadMapper;
+        switch (format) {
+            case "json" -> {
+                payloadMapper = Jackson2ObjectMapperBuilder.json().build();
+                converter = new MappingJackson2HttpMessageConverter(payloadMapper);
+                mediaType = MediaType.APPLICATION_JSON;
+            }
+            case "cbor" -> {
+                payloadMapper = Jackson2ObjectMapperBuilder.cbor().build();
+                converter = new MappingJackson2CborHttpMessageConverter(payloadMapper);
+                mediaType = MediaType.APPLICATION_CBOR;
+            }
+            case "smile" -> {
+                payloadMapper = Jackson2ObjectMapperBuilder.smile().build();
+                converter = new MappingJackson2SmileHttpMessageConverter(payloadMapper);
+                mediaType = new MediaType("application", "x-jackson-smile");
+            }
+            case "protobuf" -> {
+                payloadMapper = null;
+                converter = new ProductProtobufHttpMessageConverter();
+                mediaType = ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+            }
+            default -> throw new IllegalArgumentException(format);
+        }
+
+        products = IntStream.rangeClosed(1, listSize)
+                .mapToObj(id -> new ProductView(id, "Товар №%d".formatted(id), "Описание товара №%d".formatted(id), 0L))
+                .toList();
+
+        NewProductPayload newProduct = new NewProductPayload("Новый товар", "Описание нового товара");
+        if (payloadMapper != null) {
+            payload = payloadMapper.writeValueAsBytes(newProduct);
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+            output.writeString(1, newProduct.title());
+            output.writeString(2, newProduct.details());
+            output.flush();
+            payload = bytes.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] writeProductList(PayloadSize payloadSize) throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(products, PRODUCT_LIST_TYPE, mediaType, outputMessage);
+        byte[] body = outputMessage.getBodyAsBytes();
+        payloadSize.bytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public Object readNewProductPayload(PayloadSize payloadSize) throws IOException {
+        payloadSize.bytes = payload.length;
+        return converter.read(NewProductPayload.class, null, new MockHttpInputMessage(payload));
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.catalogue.benchmark;
+
+import jakarta.validation.ConstraintViolation;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.controller.payload.UpdateProductPayload;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadValidationBenchmark {
+
+    LocalValidatorFactoryBean validator;
+
+    NewProductPayload validNewProduct = new NewProductPayload("Новый товар", "Описание нового товара");
+
+    NewProductPayload invalidNewProduct = new NewProductPayload("  ", "  ".repeat(501));
+
+    UpdateProductPayload validUpdateProduct = new UpdateProductPayload("Новое название", "Новое описание");
+
+    UpdateProductPayload invalidUpdateProduct = new UpdateProductPayload(null, null);
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        validator = new LocalValidatorFactoryBean();
+        validator.setValidationMessageSource(messageSource);
+        validator.afterPropertiesSet();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validator.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<NewProductPayload>> validateNewProduct() {
+        return validator.validate(validNewProduct);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<NewProductPayload>> validateInvalidNewProduct() {
+        return validator.validate(invalidNewProduct);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UpdateProductPayload>> validateUpdateProduct() {
+        return validator.validate(validUpdateProduct);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UpdateProductPayload>> validateInvalidUpdateProduct() {
+        return validator.validate(invalidUpdateProduct);
+    }
+}
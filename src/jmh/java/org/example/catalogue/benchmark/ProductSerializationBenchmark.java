@@ -0,0 +1,71 @@
+package org.example.catalogue.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.entity.ProductView;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSerializationBenchmark {
+
+    @Param({"50", "500"})
+    int listSize;
+
+    ObjectWriter productWriter;
+
+    ObjectWriter listWriter;
+
+    ObjectReader payloadReader;
+
+    ProductView product;
+
+    List<ProductView> products;
+
+    byte[] payload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        productWriter = objectMapper.writerFor(ProductView.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProductView.class));
+        payloadReader = objectMapper.readerFor(NewProductPayload.class);
+
+        product = new ProductView(1, "Название товара", "Описание товара", 0L);
+        products = IntStream.rangeClosed(1, listSize)
+                .mapToObj(id -> new ProductView(id, "Товар №%d".formatted(id), "Описание товара №%d".formatted(id), 0L))
+                .toList();
+        payload = """
+                {"title": "Новый товар", "details": "Описание нового товара"}"""
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeProduct() throws IOException {
+        return productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] writeProductList() throws IOException {
+        return listWriter.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public NewProductPayload readNewProductPayload() throws IOException {
+        return payloadReader.readValue(payload);
+    }
+}
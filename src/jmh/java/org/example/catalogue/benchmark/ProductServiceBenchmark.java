@@ -0,0 +1,77 @@
+package org.example.catalogue.benchmark;
+
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.service.DefaulProductService;
+import org.example.catalogue.service.ProductCursor;
+import org.example.catalogue.service.ProductPage;
+import org.example.catalogue.service.ProductSort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    @Param("10000")
+    int productCount;
+
+    @Param("50")
+    int limit;
+
+    DefaulProductService productService;
+
+    ProductCursor firstById = ProductCursor.first(ProductSort.ID);
+
+    ProductCursor firstByTitle = ProductCursor.first(ProductSort.TITLE);
+
+    @Setup
+    public void setUp() {
+        InMemoryProductRepository productRepository = new InMemoryProductRepository();
+        for (int i = 1; i <= productCount; i++) {
+            productRepository.save(new Product(null, "Товар №%05d".formatted(i), "Описание товара №%d".formatted(i)));
+        }
+
+        productService = new DefaulProductService(productRepository, new NoOpCacheManager(), event -> {});
+    }
+
+    @Benchmark
+    public ProductPage findAllProductsById() {
+        return productService.findAllProducts(null, firstById, limit);
+    }
+
+    @Benchmark
+    public ProductPage findAllProductsByTitle() {
+        return productService.findAllProducts(null, firstByTitle, limit);
+    }
+
+    @Benchmark
+    public ProductPage findAllProductsFiltered() {
+        return productService.findAllProducts("№1", firstById, limit);
+    }
+
+    @Benchmark
+    public void processAllProducts(Blackhole blackhole) {
+        productService.processAllProducts(null, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<ProductView> findProduct() {
+        return productService.findProduct(ThreadLocalRandom.current().nextInt(1, productCount + 1));
+    }
+
+    @Benchmark
+    public void updateProduct() {
+        int id = ThreadLocalRandom.current().nextInt(1, productCount + 1);
+        productService.updateProduct(id, "Товар №%05d".formatted(id), "Новое описание");
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.catalogue.benchmark;
+
+import org.example.catalogue.entity.ProductSuggestion;
+import org.example.catalogue.service.ProductSuggestionIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ProductSuggestionIndexBenchmark {
+
+    @Param("1000000")
+    int productCount;
+
+    @Param("10")
+    int limit;
+
+    ProductSuggestionIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new ProductSuggestionIndex(productCount);
+        for (int i = 1; i <= productCount; i++) {
+            index.put(i, "Товар №%07d".formatted(i));
+        }
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> suggest() {
+        return index.suggest("товар №%03d".formatted(ThreadLocalRandom.current().nextInt(1000)), limit);
+    }
+
+    @Benchmark
+    public void update() {
+        int id = ThreadLocalRandom.current().nextInt(1, productCount + 1);
+        index.put(id, "Товар №%07d".formatted(id));
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.catalogue.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class CatalogueLoadTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${loadtest.products}")
+    int products;
+
+    @Value("${loadtest.concurrency}")
+    int concurrency;
+
+    @Value("${loadtest.warmup}")
+    Duration warmup;
+
+    @Value("${loadtest.duration}")
+    Duration duration;
+
+    @Value("${loadtest.mix}")
+    String mix;
+
+    @Value("${loadtest.max-error-rate}")
+    double maxErrorRate;
+
+    @Value("${loadtest.report}")
+    Path report;
+
+    @Value("${loadtest.base-url:}")
+    String baseUrl;
+
+    @Value("${loadtest.token:loadtest}")
+    String token;
+
+    @TestConfiguration
+    static class LoadTestBeans {
+        @Bean
+        @Primary
+        JwtDecoder loadTestJwtDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject("loadtest")
+                    .claim("scope", "view_catalogue edit_catalogue")
+                    .build();
+        }
+    }
+
+    @BeforeEach
+    void seedProducts() {
+        LoadTestData.seedProducts(jdbcTemplate, products);
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        var workload = Workload.parse(mix);
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+
+            run(client, workload, warmup, new LoadTestStatistics());
+
+            var statistics = new LoadTestStatistics();
+            run(client, workload, duration, statistics);
+
+            var result = statistics.report(duration);
+            System.out.printf("Load test against %s: %d products, %d concurrent clients, mix %s%n",
+                    uri(""), products, concurrency, mix);
+            result.print(System.out);
+
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), result);
+
+            assertTrue(result.total().errors() <= result.total().requests() * maxErrorRate,
+                    "Error rate exceeded %s: %d of %d requests failed"
+                            .formatted(maxErrorRate, result.total().errors(), result.total().requests()));
+        }
+    }
+
+    private void run(HttpClient client, Workload workload, Duration duration, LoadTestStatistics statistics) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    var random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = workload.next(random);
+                        HttpRequest request = request(operation, random);
+                        long start = System.nanoTime();
+                        boolean success;
+                        try {
+                            HttpResponse<Void> response = client.send(request,
+                                    HttpResponse.BodyHandlers.discarding());
+                            success = response.statusCode() / 100 == 2;
+                        } catch (IOException exception) {
+                            success = false;
+                        }
+                        statistics.record(operation, System.nanoTime() - start, success);
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation, ThreadLocalRandom random) {
+        int productId = random.nextInt(1, products + 1);
+        HttpRequest.Builder builder = switch (operation) {
+            case GET -> HttpRequest.newBuilder(uri("/catalogue-api/products/%d".formatted(productId)));
+            case LIST -> HttpRequest.newBuilder(uri("/catalogue-api/products?sort=%s&limit=50"
+                    .formatted(random.nextBoolean() ? "id" : "title")));
+            case SEARCH -> HttpRequest.newBuilder(uri("/catalogue-api/products?filter=%d&limit=50"
+                    .formatted(random.nextInt(1, 1000))));
+            case CREATE -> HttpRequest.newBuilder(uri("/catalogue-api/products"))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofString("""
+                            {"title": "Нагрузочный товар", "details": "Создан нагрузочным тестом"}"""));
+            case UPDATE -> HttpRequest.newBuilder(uri("/catalogue-api/products/%d".formatted(productId)))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("""
+                            {"title": "Товар №%d", "details": "Обновлён нагрузочным тестом"}"""
+                            .formatted(productId)));
+        };
+        return builder
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create((baseUrl.isBlank() ? "http://localhost:%d".formatted(port) : baseUrl) + path);
+    }
+}
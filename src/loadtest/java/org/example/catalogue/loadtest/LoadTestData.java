@@ -0,0 +1,20 @@
+package org.example.catalogue.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public final class LoadTestData {
+
+    public static void seedProducts(JdbcTemplate jdbcTemplate, int products) {
+        jdbcTemplate.execute("truncate catalogue.t_product");
+        jdbcTemplate.update("""
+                insert into catalogue.t_product (id, c_title, c_details)
+                select n, 'Товар №' || n, 'Описание товара №' || n
+                from generate_series(1, ?) n""", products);
+        jdbcTemplate.queryForObject("select setval('catalogue.t_product_id_seq', ?)", Long.class,
+                (long) products);
+        jdbcTemplate.execute("analyze catalogue.t_product");
+    }
+
+    private LoadTestData() {
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.catalogue.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadTestStatistics {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public LoadTestStatistics() {
+        Arrays.stream(Operation.values()).forEach(operation -> {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        });
+    }
+
+    public void record(Operation operation, long elapsedNanos, boolean success) {
+        latencies.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+                HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public Report report(Duration duration) {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        List<OperationReport> operations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation).copy();
+            long operationErrors = errors.get(operation).sum();
+            if (histogram.getTotalCount() > 0) {
+                operations.add(OperationReport.of(operation.name().toLowerCase(), histogram, operationErrors,
+                        duration));
+                total.add(histogram);
+                totalErrors += operationErrors;
+            }
+        }
+        return new Report(duration.toSeconds(), operations,
+                OperationReport.of("total", total, totalErrors, duration));
+    }
+
+    public record Report(long durationSeconds, List<OperationReport> operations, OperationReport total) {
+
+        public void print(PrintStream out) {
+            out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                    "op", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            operations.forEach(operation -> operation.print(out));
+            total.print(out);
+        }
+    }
+
+    public record OperationReport(String operation, long requests, long errors, double throughput,
+                                  double p50, double p90, double p99, double p999, double max) {
+
+        static OperationReport of(String operation, Histogram histogram, long errors, Duration duration) {
+            return new OperationReport(operation, histogram.getTotalCount(), errors,
+                    histogram.getTotalCount() * 1000.0 / duration.toMillis(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+
+        void print(PrintStream out) {
+            out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation, requests, errors, throughput,
+                    p50, p90, p99, p999, max);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.catalogue.loadtest;
+
+public enum Operation {
+    GET, LIST, SEARCH, CREATE, UPDATE
+}
@@ -0,0 +1,105 @@
+package org.example.catalogue.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class ProductListingAllocationLoadTest {
+
+    private static final int PAGE_SIZE = 500;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${loadtest.products}")
+    int products;
+
+    @Value("${loadtest.allocation-report:target/allocation-report.json}")
+    Path report;
+
+    @BeforeEach
+    void seedProducts() {
+        LoadTestData.seedProducts(jdbcTemplate, products);
+    }
+
+    @Test
+    void listingPage_ViewsAllocateLessThanManagedEntities() throws Exception {
+        var readWrite = new TransactionTemplate(transactionManager);
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        long entityBytes = allocatedBytesPerPage(() -> readWrite.execute(status -> entityManager
+                .createNativeQuery("""
+                        select * from catalogue.t_product
+                        where id > :afterId
+                        order by id
+                        limit :limit""", Product.class)
+                .setParameter("afterId", Integer.MIN_VALUE)
+                .setParameter("limit", PAGE_SIZE)
+                .getResultList()));
+        long viewBytes = allocatedBytesPerPage(() -> readOnly.execute(status -> productRepository
+                .findAllViewsAfterIdOrderById(Integer.MIN_VALUE, PAGE_SIZE)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pageSize", PAGE_SIZE);
+        result.put("iterations", MEASURED_ITERATIONS);
+        result.put("managedEntityBytesPerPage", entityBytes);
+        result.put("readOnlyViewBytesPerPage", viewBytes);
+        System.out.printf("Listing page of %d products: managed entities %d B, read-only views %d B%n",
+                PAGE_SIZE, entityBytes, viewBytes);
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), result);
+
+        assertTrue(viewBytes < entityBytes);
+    }
+
+    private static long allocatedBytesPerPage(Supplier<List<?>> page) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            page.get();
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            page.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.catalogue.loadtest;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+public record Workload(Map<Operation, Integer> weights, int totalWeight) {
+
+    public static Workload parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid workload entry: " + entry);
+            }
+
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative workload weight: " + entry);
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("Workload has no operations: " + mix);
+        }
+        return new Workload(Collections.unmodifiableMap(weights), totalWeight);
+    }
+
+    public Operation next(RandomGenerator random) {
+        int value = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+}
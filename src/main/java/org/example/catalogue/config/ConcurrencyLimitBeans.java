@@ -0,0 +1,31 @@
+package org.example.catalogue.config;
+
+import org.example.catalogue.web.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+@Configuration
+@ConditionalOnProperty("catalogue.concurrency.max-in-flight")
+public class ConcurrencyLimitBeans {
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${catalogue.concurrency.max-in-flight}") int maxInFlight,
+            @Value("${catalogue.concurrency.acquire-timeout:1s}") Duration acquireTimeout,
+            @Value("${catalogue.concurrency.rejection-status:503}") int rejectionStatus,
+            @Value("${catalogue.concurrency.retry-after:${catalogue.concurrency.acquire-timeout:1s}}")
+            Duration retryAfter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(new Semaphore(maxInFlight), acquireTimeout,
+                        HttpStatus.valueOf(rejectionStatus), retryAfter));
+        registration.addUrlPatterns("/catalogue-api/*");
+        registration.setOrder(0);
+        return registration;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.catalogue.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.catalogue.security.CachingJwtDecoder;
+import org.example.catalogue.security.JwkSetRefresher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty("spring.security.oauth2.resourceserver.jwt.jwk-set-uri")
+public class JwtBeans {
+    @Bean
+    public JwkSetRefresher jwkSetRefresher(OAuth2ResourceServerProperties properties,
+                                           RestTemplateBuilder restTemplateBuilder) {
+        return new JwkSetRefresher(restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(2))
+                .setReadTimeout(Duration.ofSeconds(5))
+                .build(), properties.getJwt().getJwkSetUri());
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties, JwkSetRefresher jwkSetRefresher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${catalogue.security.jwt-cache.maximum-size:10000}") long maximumSize,
+                                 @Value("${catalogue.security.jwt-cache.expiry-skew:30s}") Duration expirySkew) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(jwkSetRefresher.getJwkSetUri())
+                .restOperations(jwkSetRefresher.getRestOperations())
+                .cache(jwkSetRefresher.getCache())
+                .build();
+        String issuerUri = properties.getJwt().getIssuerUri();
+        if (issuerUri != null) {
+            decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        }
+
+        return new CachingJwtDecoder(decoder, maximumSize, expirySkew, meterRegistry);
+    }
+}
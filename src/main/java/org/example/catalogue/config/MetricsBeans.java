@@ -0,0 +1,39 @@
+package org.example.catalogue.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.catalogue.web.StatementCounter;
+import org.example.catalogue.web.StatementCountingFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsBeans {
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountingFilter> statementCountingFilter(
+            StatementCounter statementCounter, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementCountingFilter> registration = new FilterRegistrationBean<>(
+                new StatementCountingFilter(statementCounter, meterRegistry));
+        registration.addUrlPatterns("/catalogue-api/*");
+        registration.setOrder(1);
+        return registration;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.catalogue.config;
+
+import org.example.catalogue.service.ProductChangeNotificationListener;
+import org.example.catalogue.service.ProductChangeOrigin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.time.Duration;
+import java.util.Properties;
+
+@Configuration
+@ConditionalOnProperty(name = "catalogue.change-notifications.enabled", havingValue = "true")
+public class ProductChangeNotificationBeans {
+    @Bean
+    public static ProductChangeOrigin productChangeOrigin() {
+        return new ProductChangeOrigin();
+    }
+
+    @Bean
+    public ProductChangeNotificationListener productChangeNotificationListener(
+            ProductChangeOrigin productChangeOrigin, DataSourceProperties dataSourceProperties,
+            CacheManager cacheManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${catalogue.change-notifications.poll-timeout:1s}") Duration pollTimeout,
+            @Value("${catalogue.change-notifications.probe-interval:10s}") Duration probeInterval,
+            @Value("${catalogue.change-notifications.socket-timeout:30s}") Duration socketTimeout,
+            @Value("${catalogue.change-notifications.min-reconnect-delay:1s}") Duration minReconnectDelay,
+            @Value("${catalogue.change-notifications.max-reconnect-delay:1m}") Duration maxReconnectDelay) {
+        SimpleDriverDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        connectionProperties.setProperty("socketTimeout", Long.toString(Math.max(1, socketTimeout.toSeconds())));
+        dataSource.setConnectionProperties(connectionProperties);
+        return new ProductChangeNotificationListener(productChangeOrigin.nodeId(), dataSource, cacheManager,
+                eventPublisher, pollTimeout, probeInterval, minReconnectDelay, maxReconnectDelay);
+    }
+}
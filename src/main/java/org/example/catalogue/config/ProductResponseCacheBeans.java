@@ -0,0 +1,23 @@
+package org.example.catalogue.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.catalogue.web.ProductResponseCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@Configuration
+public class ProductResponseCacheBeans {
+    @Bean
+    public ProductResponseCache productResponseCache(
+            RequestMappingHandlerAdapter handlerAdapter,
+            @Qualifier("mvcContentNegotiationManager") ContentNegotiationManager contentNegotiationManager,
+            MeterRegistry meterRegistry,
+            @Value("${catalogue.response-cache.maximum-size:0}") long maximumSize) {
+        return new ProductResponseCache(handlerAdapter.getMessageConverters(), contentNegotiationManager,
+                maximumSize, meterRegistry);
+    }
+}
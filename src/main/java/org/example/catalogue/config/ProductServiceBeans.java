@@ -0,0 +1,40 @@
+package org.example.catalogue.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.catalogue.service.CoalescingProductService;
+import org.example.catalogue.service.GroupCommittingProductService;
+import org.example.catalogue.service.ProductService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class ProductServiceBeans {
+    @Bean
+    @ConditionalOnProperty(name = "catalogue.group-commit.enabled", havingValue = "true")
+    public GroupCommittingProductService groupCommittingProductService(
+            @Qualifier("defaulProductService") ProductService productService, MeterRegistry meterRegistry,
+            @Value("${catalogue.group-commit.window:5ms}") Duration window,
+            @Value("${catalogue.group-commit.max-batch-size:50}") int maxBatchSize,
+            @Value("${catalogue.group-commit.queue-capacity:1000}") int queueCapacity,
+            @Value("${catalogue.group-commit.timeout:5s}") Duration timeout) {
+        return new GroupCommittingProductService(productService, window, maxBatchSize, queueCapacity, timeout,
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public ProductService coalescingProductService(
+            @Qualifier("defaulProductService") ProductService productService,
+            ObjectProvider<GroupCommittingProductService> groupCommittingProductService,
+            @Value("${catalogue.coalescing.timeout:5s}") Duration timeout) {
+        ProductService delegate = groupCommittingProductService.getIfAvailable();
+        return new CoalescingProductService(delegate != null ? delegate : productService, timeout);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.catalogue.config;
+
+import org.example.catalogue.repository.ProductRepository;
+import org.example.catalogue.service.ProductSuggestionIndex;
+import org.example.catalogue.service.ProductSuggestionIndexLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class ProductSuggestionBeans {
+    @Bean
+    public ProductSuggestionIndex productSuggestionIndex(
+            @Value("${catalogue.suggestions.max-entries:1000000}") int maxEntries) {
+        return new ProductSuggestionIndex(maxEntries);
+    }
+
+    @Bean
+    public ProductSuggestionIndexLoader productSuggestionIndexLoader(ProductSuggestionIndex productSuggestionIndex,
+                                                                     ProductRepository productRepository,
+                                                                     PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        return new ProductSuggestionIndexLoader(productSuggestionIndex, productRepository, transactionTemplate);
+    }
+}
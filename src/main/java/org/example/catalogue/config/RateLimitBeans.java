@@ -0,0 +1,37 @@
+package org.example.catalogue.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.catalogue.security.ClientRateLimitFilter;
+import org.example.catalogue.security.ClientRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "catalogue.rate-limit.enabled", havingValue = "true")
+public class RateLimitBeans {
+    @Bean
+    public ClientRateLimitFilter clientRateLimitFilter(
+            MeterRegistry meterRegistry, MessageSource messageSource, ObjectMapper objectMapper,
+            @Value("${catalogue.rate-limit.read.permits-per-second:50}") double readPermitsPerSecond,
+            @Value("${catalogue.rate-limit.read.burst:100}") int readBurst,
+            @Value("${catalogue.rate-limit.write.permits-per-second:10}") double writePermitsPerSecond,
+            @Value("${catalogue.rate-limit.write.burst:20}") int writeBurst) {
+        return new ClientRateLimitFilter(new ClientRateLimiter(readPermitsPerSecond, readBurst),
+                new ClientRateLimiter(writePermitsPerSecond, writeBurst), messageSource, objectMapper,
+                meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClientRateLimitFilter> clientRateLimitFilterRegistration(
+            ClientRateLimitFilter clientRateLimitFilter) {
+        FilterRegistrationBean<ClientRateLimitFilter> registration =
+                new FilterRegistrationBean<>(clientRateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.catalogue.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.catalogue.service.InvalidRequestException;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -29,4 +30,13 @@ public class BadRequestControllerAdvice {
         return ResponseEntity.badRequest()
                 .body(problemDetail);
     }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidRequestException(InvalidRequestException exception,
+                                                                       Locale locale) {
+        return ResponseEntity.badRequest()
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                        messageSource.getMessage(exception.getMessage(), new Object[0],
+                                exception.getMessage(), locale)));
+    }
 }
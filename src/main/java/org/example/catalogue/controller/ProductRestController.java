@@ -1,7 +1,7 @@
 package org.example.catalogue.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,18 +9,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.catalogue.controller.payload.UpdateProductPayload;
-import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
 import org.example.catalogue.service.ProductService;
+import org.example.catalogue.web.ProductResponseCache;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.Locale;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,23 +33,39 @@ import java.util.NoSuchElementException;
 public class ProductRestController {
     private final ProductService productService;
     private final MessageSource messageSource;
-
-    @ModelAttribute
-    public Product getProduct(@PathVariable("productId") int productId) {
-        return productService.findProduct(productId)
-                .orElseThrow(() -> new NoSuchElementException("catalogue.errors.product.not_found"));
-    }
+    private final ProductResponseCache productResponseCache;
 
     @GetMapping
     @Operation(
             responses = {
-                    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = Product.class))),
+                    @ApiResponse(responseCode = "200",
+                            headers = @Header(name = HttpHeaders.ETAG),
+                            content = @Content(schema = @Schema(implementation = ProductView.class))),
+                    @ApiResponse(responseCode = "304", content = @Content()),
                     @ApiResponse(responseCode = "403", content = @Content()),
                     @ApiResponse(responseCode = "404", content = @Content())
             }
     )
-    public Product findProduct(@Parameter(hidden = true) @ModelAttribute("product") Product product) {
-        return product;
+    public ResponseEntity<?> findProduct(@PathVariable("productId") int productId, NativeWebRequest request) {
+        ProductView product = productService.findProduct(productId)
+                .orElseThrow(() -> new NoSuchElementException("catalogue.errors.product.not_found"));
+        Optional<ProductResponseCache.EncodedProduct> encoded = productResponseCache.find(product, request);
+        if (encoded.isPresent()) {
+            return ResponseEntity.ok()
+                    .eTag(encoded.get().eTag())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .contentType(encoded.get().contentType())
+                    .body(encoded.get().body());
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT);
+        MediaType contentType = productResponseCache.negotiate(request);
+        if (contentType != null) {
+            response.eTag(ProductResponseCache.eTag(product, contentType))
+                    .contentType(contentType);
+        }
+        return response.body(product);
     }
 
     @PatchMapping
@@ -0,0 +1,99 @@
+package org.example.catalogue.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.controller.payload.ProductImportReport;
+import org.example.catalogue.service.ProductImportResult;
+import org.example.catalogue.service.ProductTransferService;
+import org.example.catalogue.service.RejectedProductRow;
+import org.springframework.context.MessageSource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("catalogue-api/admin/products")
+public class ProductsAdminRestController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final int MAX_REPORTED_ROWS = 1000;
+
+    private final ProductTransferService productTransferService;
+    private final Validator validator;
+    private final MessageSource messageSource;
+
+    @GetMapping(produces = TEXT_CSV_VALUE)
+    @Operation(
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(
+                            mediaType = TEXT_CSV_VALUE,
+                            examples = @ExampleObject("""
+                                    id,title,details
+                                    1,Товар №1,Описание товара №1"""))),
+                    @ApiResponse(responseCode = "403", content = @Content())
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products.csv")
+                        .build()
+                        .toString())
+                .body(productTransferService::exportProducts);
+    }
+
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    @Operation(
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductImportReport.class),
+                            examples = @ExampleObject("""
+                                    {
+                                        "imported": 1,
+                                        "rejected": 1,
+                                        "rejectedRows": [
+                                            {
+                                                "row": 2,
+                                                "id": null,
+                                                "errors": ["Название товара должно быть от 3 до 50 символов"]
+                                            }
+                                        ]
+                                    }"""))),
+                    @ApiResponse(responseCode = "400", content = @Content()),
+                    @ApiResponse(responseCode = "403", content = @Content())
+            }
+    )
+    public ProductImportReport importProducts(InputStream body, Locale locale) {
+        ProductImportResult result = productTransferService.importProducts(body, MAX_REPORTED_ROWS);
+        return new ProductImportReport(result.imported(), result.rejected(), result.rejectedRows().stream()
+                .map(row -> new ProductImportReport.RejectedRow(row.row(), row.id(), errors(row, locale)))
+                .toList());
+    }
+
+    private List<String> errors(RejectedProductRow row, Locale locale) {
+        List<String> errors = validator.validate(new NewProductPayload(row.title(), row.details())).stream()
+                .map(ConstraintViolation::getMessage)
+                .toList();
+        if (errors.isEmpty()) {
+            return List.of(messageSource.getMessage("catalogue.products.import.errors.title_is_blank",
+                    new Object[0], "catalogue.products.import.errors.title_is_blank", locale));
+        }
+        return errors;
+    }
+}
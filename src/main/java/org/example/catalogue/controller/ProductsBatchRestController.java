@@ -0,0 +1,101 @@
+package org.example.catalogue.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.controller.payload.NewProductBatchResult;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.service.InvalidRequestException;
+import org.example.catalogue.service.ProductService;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("catalogue-api")
+public class ProductsBatchRestController {
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final ProductService productService;
+    private final Validator validator;
+    private final MessageSource messageSource;
+
+    @PostMapping("products:batch")
+    @Operation(
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = NewProductBatchResult.class)),
+                            examples = @ExampleObject("""
+                                    [
+                                        {
+                                            "status": 201,
+                                            "location": "http://localhost:8081/catalogue-api/products/1",
+                                            "product": {"id": 1, "title": "Новый товар", "details": null}
+                                        },
+                                        {
+                                            "status": 400,
+                                            "errors": ["Название товара должно быть от 3 до 50 символов"]
+                                        }
+                                    ]"""))),
+                    @ApiResponse(responseCode = "400", content = @Content()),
+                    @ApiResponse(responseCode = "403", content = @Content())
+            })
+    public ResponseEntity<List<NewProductBatchResult>> createProducts(@RequestBody List<NewProductPayload> payloads,
+                                                                      UriComponentsBuilder uriComponentsBuilder,
+                                                                      Locale locale) {
+        if (payloads.isEmpty() || payloads.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("catalogue.products.batch.errors.size_is_invalid");
+        }
+
+        NewProductBatchResult[] results = new NewProductBatchResult[payloads.size()];
+        List<Integer> validIndexes = new ArrayList<>(payloads.size());
+        List<Product> products = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            NewProductPayload payload = payloads.get(i);
+            if (payload == null) {
+                results[i] = NewProductBatchResult.invalid(List.of(messageSource.getMessage(
+                        "catalogue.products.batch.errors.item_is_null", new Object[0],
+                        "catalogue.products.batch.errors.item_is_null", locale)));
+                continue;
+            }
+
+            List<String> errors = validator.validate(payload).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .toList();
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                products.add(new Product(null, payload.title(), payload.details()));
+            } else {
+                results[i] = NewProductBatchResult.invalid(errors);
+            }
+        }
+
+        if (!products.isEmpty()) {
+            List<Product> createdProducts = productService.createProducts(products);
+            for (int i = 0; i < createdProducts.size(); i++) {
+                Product product = createdProducts.get(i);
+                results[validIndexes.get(i)] = NewProductBatchResult.created(uriComponentsBuilder.cloneBuilder()
+                        .replacePath("/catalogue-api/products/{productId}")
+                        .build(Map.of("productId", product.getId())), product);
+            }
+        }
+        return ResponseEntity.ok(Arrays.asList(results));
+    }
+}
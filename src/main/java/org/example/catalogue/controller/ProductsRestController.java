@@ -1,6 +1,11 @@
 package org.example.catalogue.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -9,35 +14,217 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.controller.payload.ProductLookupResult;
 import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductSearchHit;
+import org.example.catalogue.entity.ProductSuggestion;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.service.InvalidRequestException;
+import org.example.catalogue.service.ProductCursor;
+import org.example.catalogue.service.ProductPage;
+import org.example.catalogue.service.ProductSearchCursor;
+import org.example.catalogue.service.ProductSearchPage;
 import org.example.catalogue.service.ProductService;
+import org.example.catalogue.service.ProductSuggestionIndex;
+import org.example.catalogue.service.ProductSort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("catalogue-api/products")
 public class ProductsRestController {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final ProductSuggestionIndex productSuggestionIndex;
 
     @GetMapping
+    @Operation(
+            responses = {
+                    @ApiResponse(responseCode = "200",
+                            headers = {
+                                    @Header(name = HttpHeaders.LINK, description = "Ссылка на следующую страницу"),
+                                    @Header(name = HttpHeaders.ETAG)
+                            },
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = ProductView.class))
+                            )),
+                    @ApiResponse(responseCode = "304", content = @Content()),
+                    @ApiResponse(responseCode = "400", content = @Content()),
+                    @ApiResponse(responseCode = "403", content = @Content())
+            }
+    )
+    public ResponseEntity<List<ProductView>> findProducts(@RequestParam(name = "filter", required = false) String filter,
+                                                          @RequestParam(name = "sort", defaultValue = "id") String sort,
+                                                          @RequestParam(name = "after", required = false) String after,
+                                                          @RequestParam(name = "limit", defaultValue = "50") int limit,
+                                                          UriComponentsBuilder uriComponentsBuilder) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("catalogue.products.errors.limit_is_invalid");
+        }
+
+        ProductSort productSort = ProductSort.of(sort);
+        ProductCursor cursor = after == null ? ProductCursor.first(productSort) : ProductCursor.decode(after);
+        if (cursor.sort() != productSort) {
+            throw new InvalidRequestException("catalogue.products.errors.cursor_is_invalid");
+        }
+
+        ProductPage page = productService.findAllProducts(filter, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag(page))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (page.next() != null) {
+            response.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(uriComponentsBuilder
+                    .replacePath("/catalogue-api/products")
+                    .replaceQuery(null)
+                    .queryParamIfPresent("filter", Optional.ofNullable(filter))
+                    .queryParam("sort", productSort.parameter())
+                    .queryParam("limit", limit)
+                    .queryParam("after", page.next().encode())
+                    .toUriString()));
+        }
+        return response.body(page.products());
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(
+            responses = {
+                    @ApiResponse(responseCode = "200",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ProductLookupResult.class)
+                            )),
+                    @ApiResponse(responseCode = "400", content = @Content()),
+                    @ApiResponse(responseCode = "403", content = @Content())
+            }
+    )
+    public ProductLookupResult findProductsByIds(@RequestParam(name = "ids") List<Integer> ids) {
+        Set<Integer> productIds = new LinkedHashSet<>(ids);
+        productIds.remove(null);
+        if (productIds.isEmpty() || productIds.size() > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("catalogue.products.errors.ids_size_is_invalid");
+        }
+
+        Map<Integer, ProductView> products = productService.findProducts(productIds);
+        return new ProductLookupResult(List.copyOf(products.values()), productIds.stream()
+                .filter(productId -> !products.containsKey(productId))
+                .toList());
+    }
+
+    @GetMapping("search")
+    @Operation(
+            responses = {
+                    @ApiResponse(responseCode = "200",
+                            headers = @Header(name = HttpHeaders.LINK, description = "Ссылка на следующую страницу"),
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = ProductSearchHit.class))
+                            )),
+                    @ApiResponse(responseCode = "400", content = @Content()),
+                    @ApiResponse(responseCode = "403", content = @Content())
+            }
+    )
+    public ResponseEntity<List<ProductSearchHit>> searchProducts(@RequestParam(name = "q") String query,
+                                                                 @RequestParam(name = "after", required = false) String after,
+                                                                 @RequestParam(name = "limit", defaultValue = "20") int limit,
+                                                                 UriComponentsBuilder uriComponentsBuilder) {
+        if (query.isBlank()) {
+            throw new InvalidRequestException("catalogue.products.errors.query_is_invalid");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("catalogue.products.errors.limit_is_invalid");
+        }
+
+        ProductSearchCursor cursor = after == null ? ProductSearchCursor.first() : ProductSearchCursor.decode(after);
+        ProductSearchPage page = productService.searchProducts(query, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.next() != null) {
+            response.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(uriComponentsBuilder
+                    .replacePath("/catalogue-api/products/search")
+                    .replaceQuery(null)
+                    .queryParam("q", query)
+                    .queryParam("limit", limit)
+                    .queryParam("after", page.next().encode())
+                    .encode()
+                    .toUriString()));
+        }
+        return response.body(page.hits());
+    }
+
+    @GetMapping("suggest")
+    @Operation(
+            responses = {
+                    @ApiResponse(responseCode = "200",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = ProductSuggestion.class))
+                            )),
+                    @ApiResponse(responseCode = "400", content = @Content()),
+                    @ApiResponse(responseCode = "403", content = @Content())
+            }
+    )
+    public List<ProductSuggestion> suggestProducts(@RequestParam(name = "prefix") String prefix,
+                                                   @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        if (prefix.isBlank()) {
+            throw new InvalidRequestException("catalogue.products.errors.prefix_is_invalid");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new InvalidRequestException("catalogue.products.errors.suggestion_limit_is_invalid");
+        }
+
+        return productSuggestionIndex.suggest(prefix, limit);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
     @Operation(
             responses = {
                     @ApiResponse(responseCode = "200", content = @Content(
-                            mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            array = @ArraySchema(schema = @Schema(implementation = Product.class))
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ProductView.class)
                     )),
                     @ApiResponse(responseCode = "403", content = @Content())
             }
     )
-    public Iterable<Product> findProducts(@RequestParam(name = "filter", required = false) String filter) {
-        return productService.findAllProducts(filter);
+    public ResponseEntity<StreamingResponseBody> streamProducts(
+            @RequestParam(name = "filter", required = false) String filter) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> {
+                    ObjectWriter writer = objectMapper.writerFor(ProductView.class)
+                            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                            .setRootValueSeparator(null)) {
+                        productService.processAllProducts(filter, product -> {
+                            try {
+                                writer.writeValue(generator, product);
+                                generator.writeRaw('\n');
+                            } catch (IOException exception) {
+                                throw new UncheckedIOException(exception);
+                            }
+                        });
+                    }
+                });
     }
 
     @PostMapping
@@ -75,4 +262,15 @@ public class ProductsRestController {
                     .body(product);
         }
     }
-}
+
+    private static String eTag(ProductPage page) {
+        StringBuilder versions = new StringBuilder();
+        for (ProductView product : page.products()) {
+            versions.append(product.id()).append(':').append(product.version()).append(';');
+        }
+        if (page.next() != null) {
+            versions.append(page.next().encode());
+        }
+        return "\"%s\"".formatted(DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package org.example.catalogue.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.service.ServiceUnavailableException;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.util.Locale;
+
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ServiceUnavailableControllerAdvice {
+    private final MessageSource messageSource;
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailableException(ServiceUnavailableException exception,
+                                                                           Locale locale) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                        messageSource.getMessage(exception.getMessage(), new Object[0],
+                                exception.getMessage(), locale)));
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.catalogue.controller.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.example.catalogue.entity.Product;
+
+import java.net.URI;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NewProductBatchResult(int status, URI location, Product product, List<String> errors) {
+    public static NewProductBatchResult created(URI location, Product product) {
+        return new NewProductBatchResult(201, location, product, null);
+    }
+
+    public static NewProductBatchResult invalid(List<String> errors) {
+        return new NewProductBatchResult(400, null, null, errors);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.catalogue.controller.payload;
+
+import java.util.List;
+
+public record ProductImportReport(long imported, long rejected, List<RejectedRow> rejectedRows) {
+    public record RejectedRow(long row, Integer id, List<String> errors) {
+    }
+}
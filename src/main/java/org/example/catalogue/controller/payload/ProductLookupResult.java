@@ -0,0 +1,8 @@
+package org.example.catalogue.controller.payload;
+
+import org.example.catalogue.entity.ProductView;
+
+import java.util.List;
+
+public record ProductLookupResult(List<ProductView> products, List<Integer> missing) {
+}
@@ -1,10 +1,12 @@
 package org.example.catalogue.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Data
@@ -14,7 +16,9 @@ import lombok.NoArgsConstructor;
 @Table(schema = "catalogue", name = "t.product")
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id_seq")
+    @SequenceGenerator(name = "product_id_seq", schema = "catalogue", sequenceName = "t_product_id_seq",
+            allocationSize = 50)
     private Integer id;
 
     @Column(name = "c_title")
@@ -25,4 +29,14 @@ public class Product {
     @Column(name = "c_details")
     @Size(max = 1000)
     private String details;
+
+    @Version
+    @Column(name = "c_version")
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
+    public Product(Integer id, String title, String details) {
+        this(id, title, details, null);
+    }
 }
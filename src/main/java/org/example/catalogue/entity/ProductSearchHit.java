@@ -0,0 +1,5 @@
+package org.example.catalogue.entity;
+
+public record ProductSearchHit(Integer id, String title, String details, float rank,
+                               String titleHighlight, String detailsHighlight) {
+}
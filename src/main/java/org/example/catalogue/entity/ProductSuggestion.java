@@ -0,0 +1,4 @@
+package org.example.catalogue.entity;
+
+public record ProductSuggestion(int id, String title) {
+}
@@ -0,0 +1,9 @@
+package org.example.catalogue.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record ProductView(Integer id, String title, String details, @JsonIgnore Long version) {
+    public static ProductView of(Product product) {
+        return new ProductView(product.getId(), product.getTitle(), product.getDetails(), product.getVersion());
+    }
+}
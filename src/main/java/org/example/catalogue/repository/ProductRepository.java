@@ -1,8 +1,19 @@
 package org.example.catalogue.repository;
 
 import org.example.catalogue.entity.Product;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
-public interface ProductRepository extends CrudRepository<Product, Integer> {
-    Iterable<Product> findAllByTitleLikeIgnoreCase(String filter);
+public interface ProductRepository extends CrudRepository<Product, Integer>, ProductViewRepository {
+    @Modifying
+    @Query("""
+            update Product p
+            set p.title = :title, p.details = :details, p.version = p.version + 1
+            where p.id = :id""")
+    int updateTitleAndDetailsById(Integer id, String title, String details);
+
+    @Modifying
+    @Query("delete from Product p where p.id = :id")
+    int deleteProductById(Integer id);
 }
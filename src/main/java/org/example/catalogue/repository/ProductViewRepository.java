@@ -0,0 +1,30 @@
+package org.example.catalogue.repository;
+
+import org.example.catalogue.entity.ProductSearchHit;
+import org.example.catalogue.entity.ProductView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ProductViewRepository {
+    List<ProductView> findAllViewsAfterIdOrderById(int afterId, int limit);
+
+    List<ProductView> findAllViewsAfterTitleOrderByTitle(String afterTitle, int afterId, int limit);
+
+    List<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(String filter, int afterId, int limit);
+
+    List<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle(String filter, String afterTitle,
+                                                                              int afterId, int limit);
+
+    Optional<ProductView> findViewById(int id);
+
+    List<ProductView> findAllViewsByIdIn(Collection<Integer> ids);
+
+    Stream<ProductView> streamAllViewsOrderById();
+
+    Stream<ProductView> streamAllViewsByTitleLikeIgnoreCaseOrderById(String filter);
+
+    List<ProductSearchHit> searchAfterRankOrderByRank(String query, float afterRank, int afterId, int limit);
+}
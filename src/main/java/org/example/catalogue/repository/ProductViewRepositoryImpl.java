@@ -0,0 +1,165 @@
+package org.example.catalogue.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.entity.ProductSearchHit;
+import org.example.catalogue.entity.ProductView;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ProductViewRepositoryImpl implements ProductViewRepository {
+    private static final String SELECT_VIEW = """
+            select new org.example.catalogue.entity.ProductView(p.id, p.title, p.details, p.version)
+            from Product p
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String HIGHLIGHT_START = "\u0002";
+    private static final String HIGHLIGHT_STOP = "\u0003";
+
+    private static final String TITLE_HEADLINE_OPTIONS = "StartSel=%s, StopSel=%s, HighlightAll=true"
+            .formatted(HIGHLIGHT_START, HIGHLIGHT_STOP);
+
+    private static final String DETAILS_HEADLINE_OPTIONS =
+            "StartSel=%s, StopSel=%s, MaxFragments=2, MaxWords=20, MinWords=5"
+                    .formatted(HIGHLIGHT_START, HIGHLIGHT_STOP);
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ProductView> findAllViewsAfterIdOrderById(int afterId, int limit) {
+        return entityManager.createQuery(SELECT_VIEW + """
+                        where p.id > :afterId
+                        order by p.id""", ProductView.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ProductView> findAllViewsAfterTitleOrderByTitle(String afterTitle, int afterId, int limit) {
+        return entityManager.createQuery(SELECT_VIEW + """
+                        where (p.title, p.id) > (:afterTitle, :afterId)
+                        order by p.title, p.id""", ProductView.class)
+                .setParameter("afterTitle", afterTitle)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(String filter, int afterId,
+                                                                               int limit) {
+        return entityManager.createQuery(SELECT_VIEW + """
+                        where p.title ilike :filter and p.id > :afterId
+                        order by p.id""", ProductView.class)
+                .setParameter("filter", filter)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle(String filter,
+                                                                                     String afterTitle,
+                                                                                     int afterId, int limit) {
+        return entityManager.createQuery(SELECT_VIEW + """
+                        where p.title ilike :filter and (p.title, p.id) > (:afterTitle, :afterId)
+                        order by p.title, p.id""", ProductView.class)
+                .setParameter("filter", filter)
+                .setParameter("afterTitle", afterTitle)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<ProductView> findViewById(int id) {
+        return entityManager.createQuery(SELECT_VIEW + "where p.id = :id", ProductView.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<ProductView> findAllViewsByIdIn(Collection<Integer> ids) {
+        List<Tuple> rows = entityManager.createNativeQuery("""
+                        select id, c_title, c_details, c_version
+                        from catalogue.t_product
+                        where id = any(:ids)""", Tuple.class)
+                .setParameter("ids", ids.toArray(Integer[]::new))
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ProductView(
+                        row.get("id", Integer.class),
+                        row.get("c_title", String.class),
+                        row.get("c_details", String.class),
+                        row.get("c_version", Long.class)))
+                .toList();
+    }
+
+    @Override
+    public Stream<ProductView> streamAllViewsOrderById() {
+        return entityManager.createQuery(SELECT_VIEW + "order by p.id", ProductView.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<ProductView> streamAllViewsByTitleLikeIgnoreCaseOrderById(String filter) {
+        return entityManager.createQuery(SELECT_VIEW + """
+                        where p.title ilike :filter
+                        order by p.id""", ProductView.class)
+                .setParameter("filter", filter)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public List<ProductSearchHit> searchAfterRankOrderByRank(String query, float afterRank, int afterId, int limit) {
+        List<Tuple> rows = entityManager.createNativeQuery("""
+                        select p.id, p.c_title, p.c_details, p.rank,
+                               ts_headline('russian', p.c_title, q, :titleOptions) as title_headline,
+                               ts_headline('russian', coalesce(p.c_details, ''), q, :detailsOptions) as details_headline
+                        from (
+                            select id, c_title, c_details, ts_rank(c_search, q) as rank
+                            from catalogue.t_product, websearch_to_tsquery('russian', :query) q
+                            where c_search @@ q
+                              and (ts_rank(c_search, q) < cast(:afterRank as real)
+                                or (ts_rank(c_search, q) = cast(:afterRank as real) and id > :afterId))
+                            order by rank desc, id
+                            limit :limit
+                        ) p, websearch_to_tsquery('russian', :query) q
+                        order by p.rank desc, p.id""", Tuple.class)
+                .setParameter("query", query)
+                .setParameter("afterRank", afterRank)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .setParameter("titleOptions", TITLE_HEADLINE_OPTIONS)
+                .setParameter("detailsOptions", DETAILS_HEADLINE_OPTIONS)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ProductSearchHit(
+                        row.get("id", Integer.class),
+                        row.get("c_title", String.class),
+                        row.get("c_details", String.class),
+                        row.get("rank", Number.class).floatValue(),
+                        highlight(row.get("title_headline", String.class)),
+                        highlight(row.get("details_headline", String.class))))
+                .toList();
+    }
+
+    private static String highlight(String headline) {
+        return HtmlUtils.htmlEscape(headline)
+                .replace(HIGHLIGHT_START, "<mark>")
+                .replace(HIGHLIGHT_STOP, "</mark>");
+    }
+}
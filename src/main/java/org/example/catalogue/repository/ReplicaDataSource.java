@@ -0,0 +1,177 @@
+package org.example.catalogue.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+    public static final Status LAGGING = new Status("LAGGING");
+    public static final Status UNREACHABLE = new Status("UNREACHABLE");
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private static final String LAG_QUERY = """
+            select case
+                       when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                       else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+                   end""";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue(), maxLag, meterRegistry))
+                .toList();
+    }
+
+    public static void setPrimaryRequired(boolean primaryRequired) {
+        if (primaryRequired) {
+            PRIMARY_REQUIRED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean primaryRequired = isPrimaryRequired();
+        setPrimaryRequired(true);
+        try {
+            return action.get();
+        } finally {
+            setPrimaryRequired(primaryRequired);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return select().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return select().getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${catalogue.replicas.check-interval:PT5S}")
+    public void checkReplicas() {
+        replicas.forEach(Replica::check);
+    }
+
+    public Map<String, HealthIndicator> healthIndicators() {
+        Map<String, HealthIndicator> indicators = new LinkedHashMap<>();
+        replicas.forEach(replica -> indicators.put(replica.name, replica::health));
+        return indicators;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    DataSource select() {
+        if (!isPrimaryRequired()) {
+            int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (replica.isAvailable()) {
+                    return replica.dataSource;
+                }
+            }
+        }
+        return primary;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final Duration maxLag;
+        private final Timer checks;
+        private volatile boolean reachable;
+        private volatile Duration lag = Duration.ZERO;
+        private volatile Duration latency = Duration.ZERO;
+        private volatile String error;
+
+        Replica(String name, DataSource dataSource, Duration maxLag, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.maxLag = maxLag;
+            checks = Timer.builder("catalogue.datasource.replica.check")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("catalogue.datasource.replica.lag", this, replica -> replica.lag.toMillis() / 1000.0)
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+
+        void check() {
+            long start = System.nanoTime();
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                lag = Duration.ofMillis((long) (resultSet.getDouble(1) * 1000));
+                if (!reachable) {
+                    log.info("Replica {} is reachable", name);
+                }
+                reachable = true;
+                error = null;
+            } catch (SQLException exception) {
+                if (reachable) {
+                    log.warn("Replica {} is unreachable, reads fall back to other nodes", name, exception);
+                }
+                reachable = false;
+                error = exception.getMessage();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                latency = Duration.ofNanos(elapsed);
+                checks.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        boolean isAvailable() {
+            return reachable && lag.compareTo(maxLag) <= 0;
+        }
+
+        Health health() {
+            Health.Builder health = Health.status(!reachable ? UNREACHABLE : isAvailable() ? Status.UP : LAGGING)
+                    .withDetail("lag", lag.toString())
+                    .withDetail("latency", latency.toString());
+            if (error != null) {
+                health.withDetail("error", error);
+            }
+            return health.build();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.catalogue.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+public class CachingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder delegate;
+    private final boolean caching;
+    private final Cache<String, Jwt> cache;
+    private final Timer hits;
+    private final Timer misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration expirySkew,
+                             MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, expirySkew, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration expirySkew,
+                      MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        caching = maximumSize > 0;
+        cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .expireAfter(new JwtExpiry(expirySkew, clock))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+        hits = Timer.builder("catalogue.security.jwt.decode")
+                .tag("cache", "hit")
+                .register(meterRegistry);
+        misses = Timer.builder("catalogue.security.jwt.decode")
+                .tag("cache", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        String key = caching ? digest(token) : null;
+        if (caching) {
+            Jwt jwt = cache.getIfPresent(key);
+            if (jwt != null) {
+                hits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return jwt;
+            }
+        }
+
+        try {
+            Jwt jwt = delegate.decode(token);
+            if (caching) {
+                cache.put(key, jwt);
+            }
+            return jwt;
+        } finally {
+            misses.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private record JwtExpiry(Duration expirySkew, Clock clock) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return 0;
+            }
+
+            return Math.max(Duration.between(clock.instant(), expiresAt.minus(expirySkew)).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.catalogue.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+public class ClientRateLimitFilter extends OncePerRequestFilter {
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final String LIMIT_EXCEEDED = "catalogue.errors.rate_limit.client_limit_exceeded";
+
+    private final ClientRateLimiter readLimiter;
+    private final ClientRateLimiter writeLimiter;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedReads;
+    private final Counter rejectedWrites;
+
+    public ClientRateLimitFilter(ClientRateLimiter readLimiter, ClientRateLimiter writeLimiter,
+                                 MessageSource messageSource, ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        rejectedReads = Counter.builder("catalogue.security.rate-limit.rejected")
+                .tag("class", "read")
+                .register(meterRegistry);
+        rejectedWrites = Counter.builder("catalogue.security.rate-limit.rejected")
+                .tag("class", "write")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof JwtAuthenticationToken token)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientId = token.getToken().getClaimAsString("client_id");
+        String client = clientId != null ? clientId : token.getName();
+        boolean read = SAFE_METHODS.contains(request.getMethod());
+        Duration wait = (read ? readLimiter : writeLimiter).tryAcquire(client);
+        if (!wait.isZero()) {
+            (read ? rejectedReads : rejectedWrites).increment();
+            reject(request, response, wait);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Duration wait)
+            throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                messageSource.getMessage(LIMIT_EXCEEDED, new Object[0], LIMIT_EXCEEDED, request.getLocale()));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                Long.toString(Math.max(1, wait.plusNanos(999_999_999).toSeconds())));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+}
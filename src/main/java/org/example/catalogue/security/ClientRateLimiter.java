@@ -0,0 +1,45 @@
+package org.example.catalogue.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class ClientRateLimiter {
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> theoreticalArrivals;
+
+    public ClientRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    ClientRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        emissionInterval = Math.max(1, (long) (Duration.ofSeconds(1).toNanos() / permitsPerSecond));
+        burstTolerance = emissionInterval * Math.max(burst, 1);
+        this.nanoClock = nanoClock;
+        theoreticalArrivals = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(burstTolerance))
+                .build();
+    }
+
+    public Duration tryAcquire(String client) {
+        AtomicLong theoreticalArrival = theoreticalArrivals.get(client,
+                key -> new AtomicLong(nanoClock.getAsLong()));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = (current - now > 0 ? current : now) + emissionInterval;
+            long wait = next - now - burstTolerance;
+            if (wait > 0) {
+                return Duration.ofNanos(wait);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.catalogue.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class JwkSetRefresher {
+    private final RestOperations restOperations;
+    private final String jwkSetUri;
+    private final Cache cache = new ConcurrentMapCache("jwk-set");
+
+    @Scheduled(fixedDelayString = "${catalogue.security.jwk-set.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            String jwkSet = restOperations.getForObject(jwkSetUri, String.class);
+            if (jwkSet != null) {
+                cache.put(jwkSetUri, jwkSet);
+            }
+        } catch (RestClientException exception) {
+            log.warn("Failed to refresh JWK Set from {}, keeping the cached one", jwkSetUri, exception);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.repository.ReplicaDataSource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class CoalescingProductService implements ProductService {
+    private static final String LOOKUP_TIMEOUT = "catalogue.errors.product.lookup_timeout";
+
+    private final ProductService delegate;
+    private final SingleFlight<PageKey, ProductPage> pageLookups;
+    private final SingleFlight<SearchKey, ProductSearchPage> searches;
+
+    public CoalescingProductService(ProductService delegate, Duration timeout) {
+        this.delegate = delegate;
+        pageLookups = new SingleFlight<>(timeout);
+        searches = new SingleFlight<>(timeout);
+    }
+
+    @Override
+    public ProductPage findAllProducts(String filter, ProductCursor cursor, int limit) {
+        PageKey key = new PageKey(filter, cursor, limit, ReplicaDataSource.isPrimaryRequired());
+        return coalesce(pageLookups, key, () -> delegate.findAllProducts(filter, cursor, limit));
+    }
+
+    @Override
+    public ProductSearchPage searchProducts(String query, ProductSearchCursor cursor, int limit) {
+        SearchKey key = new SearchKey(query, cursor, limit, ReplicaDataSource.isPrimaryRequired());
+        return coalesce(searches, key, () -> delegate.searchProducts(query, cursor, limit));
+    }
+
+    @Override
+    public void processAllProducts(String filter, Consumer<ProductView> consumer) {
+        delegate.processAllProducts(filter, consumer);
+    }
+
+    @Override
+    public Product createProduct(String title, String details) {
+        return delegate.createProduct(title, details);
+    }
+
+    @Override
+    public List<Product> createProducts(List<Product> products) {
+        return delegate.createProducts(products);
+    }
+
+    @Override
+    public Optional<ProductView> findProduct(int productId) {
+        return delegate.findProduct(productId);
+    }
+
+    @Override
+    public Map<Integer, ProductView> findProducts(Collection<Integer> productIds) {
+        return delegate.findProducts(productIds);
+    }
+
+    @Override
+    public void updateProduct(Integer id, String title, String details) {
+        delegate.updateProduct(id, title, details);
+    }
+
+    @Override
+    public void deleteProduct(Integer id) {
+        delegate.deleteProduct(id);
+    }
+
+    private static <K, V> V coalesce(SingleFlight<K, V> singleFlight, K key, Supplier<V> loader) {
+        try {
+            return singleFlight.execute(key, loader);
+        } catch (TimeoutException exception) {
+            throw new ServiceUnavailableException(LOOKUP_TIMEOUT, exception);
+        }
+    }
+
+    private record PageKey(String filter, ProductCursor cursor, int limit, boolean primaryRequired) {
+    }
+
+    private record SearchKey(String query, ProductSearchCursor cursor, int limit, boolean primaryRequired) {
+    }
+}
@@ -1,55 +1,171 @@
 package org.example.catalogue.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductSearchHit;
+import org.example.catalogue.entity.ProductView;
 import org.example.catalogue.repository.ProductRepository;
+import org.example.catalogue.repository.ReplicaDataSource;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed("catalogue.products.service")
 @RequiredArgsConstructor
 public class DefaulProductService implements ProductService {
     private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public Iterable<Product> findAllProducts(String filter) {
+    @Transactional(readOnly = true)
+    public ProductPage findAllProducts(String filter, ProductCursor cursor, int limit) {
+        List<ProductView> products;
         if (filter != null && !filter.isBlank()) {
-            return productRepository.findAllByTitleLikeIgnoreCase("%" + filter + "%");
+            String pattern = containsPattern(filter);
+            products = switch (cursor.sort()) {
+                case ID -> productRepository.findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(pattern,
+                        cursor.id(), limit + 1);
+                case TITLE -> productRepository.findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle(pattern,
+                        cursor.title(), cursor.id(), limit + 1);
+            };
         } else {
-            return productRepository.findAll();
+            products = switch (cursor.sort()) {
+                case ID -> productRepository.findAllViewsAfterIdOrderById(cursor.id(), limit + 1);
+                case TITLE -> productRepository.findAllViewsAfterTitleOrderByTitle(cursor.title(), cursor.id(),
+                        limit + 1);
+            };
+        }
+
+        if (products.size() > limit) {
+            products = products.subList(0, limit);
+            return new ProductPage(products, ProductCursor.after(cursor.sort(), products.get(limit - 1)));
+        } else {
+            return new ProductPage(products, null);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSearchPage searchProducts(String query, ProductSearchCursor cursor, int limit) {
+        List<ProductSearchHit> hits = productRepository.searchAfterRankOrderByRank(query, cursor.rank(),
+                cursor.id(), limit + 1);
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            return new ProductSearchPage(hits, ProductSearchCursor.after(hits.get(limit - 1)));
+        } else {
+            return new ProductSearchPage(hits, null);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void processAllProducts(String filter, Consumer<ProductView> consumer) {
+        try (Stream<ProductView> products = filter != null && !filter.isBlank()
+                ? productRepository.streamAllViewsByTitleLikeIgnoreCaseOrderById(containsPattern(filter))
+                : productRepository.streamAllViewsOrderById()) {
+            products.forEach(consumer);
         }
     }
 
     @Override
     @Transactional
     public Product createProduct(String title, String details) {
-        return productRepository.save(new Product(null, title, details));
+        Product product = productRepository.save(new Product(null, title, details));
+
+        new TransactionAwareCacheDecorator(cacheManager.getCache("products"))
+                .put(product.getId(), ProductView.of(product));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(product.getId(), product.getTitle()));
+        return product;
     }
 
     @Override
-    public Optional<Product> findProduct(int productId) {
-        return productRepository.findById(productId);
+    @Transactional
+    public List<Product> createProducts(List<Product> products) {
+        List<Product> createdProducts = new ArrayList<>(products.size());
+        productRepository.saveAll(products).forEach(createdProducts::add);
+
+        Cache cache = new TransactionAwareCacheDecorator(cacheManager.getCache("products"));
+        createdProducts.forEach(product -> {
+            cache.evict(product.getId());
+            eventPublisher.publishEvent(ProductChangedEvent.saved(product.getId(), product.getTitle()));
+        });
+        return createdProducts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "products", key = "#productId", sync = true)
+    public Optional<ProductView> findProduct(int productId) {
+        // The result outlives the request in the cache, so it must not come from a lagging replica
+        return ReplicaDataSource.onPrimary(() -> productRepository.findViewById(productId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, ProductView> findProducts(Collection<Integer> productIds) {
+        Cache cache = cacheManager.getCache("products");
+        Map<Integer, ProductView> products = new LinkedHashMap<>();
+        List<Integer> misses = new ArrayList<>();
+        for (Integer productId : productIds) {
+            Cache.ValueWrapper cached = cache.get(productId);
+            if (cached == null) {
+                misses.add(productId);
+            }
+            products.put(productId, cached == null ? null : (ProductView) cached.get());
+        }
+
+        if (!misses.isEmpty()) {
+            ReplicaDataSource.onPrimary(() -> productRepository.findAllViewsByIdIn(misses)).forEach(product -> {
+                cache.put(product.id(), product);
+                products.put(product.id(), product);
+            });
+        }
+        products.values().removeIf(Objects::isNull);
+        return products;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = "products", key = "#id")
     public void updateProduct(Integer id, String title, String details) {
-        productRepository.findById(id)
-                .ifPresentOrElse(product -> {
-                    product.setTitle(title);
-                    product.setDetails(details);
-                }, () -> {
-                    throw new NoSuchElementException();
-                });
+        if (productRepository.updateTitleAndDetailsById(id, title, details) == 0) {
+            throw new NoSuchElementException("catalogue.errors.product.not_found");
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.saved(id, title));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = "products", key = "#id")
     public void deleteProduct(Integer id) {
-        productRepository.deleteById(id);
+        if (productRepository.deleteProductById(id) == 0) {
+            throw new NoSuchElementException("catalogue.errors.product.not_found");
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
     }
 
+    private static String containsPattern(String filter) {
+        return "%" + filter.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
 }
@@ -0,0 +1,130 @@
+package org.example.catalogue.service;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DefaultProductTransferService implements ProductTransferService {
+    static final int TITLE_MIN_LENGTH = 3;
+    static final int TITLE_MAX_LENGTH = 50;
+    static final int DETAILS_MAX_LENGTH = 1000;
+
+    private static final String VALID_ROW = """
+            c_title is not null
+            and char_length(c_title) between %d and %d
+            and char_length(trim(c_title)) >= %d
+            and (c_details is null or char_length(c_details) <= %d)"""
+            .formatted(TITLE_MIN_LENGTH, TITLE_MAX_LENGTH, TITLE_MIN_LENGTH, DETAILS_MAX_LENGTH);
+
+    private static final String COPY_IN = """
+            copy tmp_product_import (id, c_title, c_details)
+            from stdin with (format csv, header true)""";
+
+    private static final String DATA_EXCEPTION_CLASS = "22";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProducts(OutputStream output) {
+        try {
+            copyManager().copyOut("""
+                    copy (select id, c_title as title, c_details as details from catalogue.t_product order by id)
+                    to stdout with (format csv, header true)""", output);
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Failed to export products", exception);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    @Transactional
+    public ProductImportResult importProducts(InputStream input, int maxRejectedRows) {
+        jdbcTemplate.execute("""
+                create temporary table tmp_product_import
+                (
+                    c_row     bigint generated always as identity,
+                    id        integer,
+                    c_title   text,
+                    c_details text
+                ) on commit drop""");
+        try {
+            copyManager().copyIn(COPY_IN, input);
+        } catch (SQLException exception) {
+            if (exception.getSQLState() != null && exception.getSQLState().startsWith(DATA_EXCEPTION_CLASS)) {
+                throw new InvalidRequestException("catalogue.products.import.errors.csv_is_invalid", exception);
+            }
+            DataAccessException translated = jdbcTemplate.getExceptionTranslator()
+                    .translate("Import products", COPY_IN, exception);
+            throw translated != null ? translated
+                    : new UncategorizedSQLException("Import products", COPY_IN, exception);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        jdbcTemplate.execute("""
+                select setval('catalogue.t_product_id_seq', greatest(last_value,
+                    (select coalesce(max(id), 1) from catalogue.t_product),
+                    (select coalesce(max(id), 1) from tmp_product_import)))
+                from catalogue.t_product_id_seq""");
+        int imported = jdbcTemplate.update("""
+                insert into catalogue.t_product (id, c_title, c_details)
+                select coalesce(id, nextval('catalogue.t_product_id_seq')), c_title, c_details
+                from (select distinct on (coalesce(id, -c_row)) id, c_title, c_details, c_row
+                      from tmp_product_import
+                      where %s
+                      order by coalesce(id, -c_row), c_row desc) valid_rows
+                order by c_row
+                on conflict (id) do update
+                    set c_title   = excluded.c_title,
+                        c_details = excluded.c_details,
+                        c_version = catalogue.t_product.c_version + 1""".formatted(VALID_ROW));
+
+        Long rejected = jdbcTemplate.queryForObject(
+                "select count(*) from tmp_product_import where not (%s)".formatted(VALID_ROW), Long.class);
+        List<RejectedProductRow> rejectedRows = jdbcTemplate.query("""
+                        select c_row, id, c_title, c_details
+                        from tmp_product_import
+                        where not (%s)
+                        order by c_row
+                        limit ?""".formatted(VALID_ROW),
+                (resultSet, rowNum) -> new RejectedProductRow(resultSet.getLong("c_row"),
+                        resultSet.getObject("id", Integer.class), resultSet.getString("c_title"),
+                        resultSet.getString("c_details")), maxRejectedRows);
+
+        if (imported > 0) {
+            new TransactionAwareCacheDecorator(cacheManager.getCache("products")).clear();
+            eventPublisher.publishEvent(new ProductChangesLostEvent());
+        }
+        return new ProductImportResult(imported, rejected == null ? 0 : rejected, rejectedRows);
+    }
+
+    private CopyManager copyManager() throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.catalogue.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+@Slf4j
+public class GroupCommittingProductService implements ProductService, SmartLifecycle {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+    private static final String COMMIT_TIMEOUT = "catalogue.errors.product.commit_timeout";
+
+    private final ProductService delegate;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final BlockingQueue<PendingProduct> queue;
+    private final DistributionSummary batchSizes;
+    private volatile boolean running;
+    private Thread thread;
+
+    public GroupCommittingProductService(ProductService delegate, Duration window, int maxBatchSize,
+                                         int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        batchSizes = DistributionSummary.builder("catalogue.products.group-commit.batch")
+                .baseUnit("products")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("product-group-commit")
+                .daemon()
+                .start(this::commitBatches);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            if (!thread.join(STOP_TIMEOUT)) {
+                log.warn("Group commit thread did not finish pending products in {}", STOP_TIMEOUT);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public Product createProduct(String title, String details) {
+        if (!running) {
+            return delegate.createProduct(title, details);
+        }
+
+        // Queued products are inserted on the commit thread, outside the request's StatementCounter
+        PendingProduct pending = new PendingProduct(title, details, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return delegate.createProduct(title, details);
+        }
+
+        // stop() may have run between the running check and the offer, and the commit thread may have
+        // drained the queue already, so take the product back unless a batch has picked it up
+        if (!running && queue.remove(pending)) {
+            return delegate.createProduct(title, details);
+        }
+
+        try {
+            return pending.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            if (queue.remove(pending)) {
+                return delegate.createProduct(title, details);
+            }
+            throw new ServiceUnavailableException(COMMIT_TIMEOUT, exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @Override
+    public List<Product> createProducts(List<Product> products) {
+        return delegate.createProducts(products);
+    }
+
+    @Override
+    public ProductPage findAllProducts(String filter, ProductCursor cursor, int limit) {
+        return delegate.findAllProducts(filter, cursor, limit);
+    }
+
+    @Override
+    public ProductSearchPage searchProducts(String query, ProductSearchCursor cursor, int limit) {
+        return delegate.searchProducts(query, cursor, limit);
+    }
+
+    @Override
+    public void processAllProducts(String filter, Consumer<ProductView> consumer) {
+        delegate.processAllProducts(filter, consumer);
+    }
+
+    @Override
+    public Optional<ProductView> findProduct(int productId) {
+        return delegate.findProduct(productId);
+    }
+
+    @Override
+    public Map<Integer, ProductView> findProducts(Collection<Integer> productIds) {
+        return delegate.findProducts(productIds);
+    }
+
+    @Override
+    public void updateProduct(Integer id, String title, String details) {
+        delegate.updateProduct(id, title, details);
+    }
+
+    @Override
+    public void deleteProduct(Integer id) {
+        delegate.deleteProduct(id);
+    }
+
+    private void commitBatches() {
+        try {
+            while (running) {
+                PendingProduct first = queue.poll(POLL_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    commitOrFail(collectBatch(first));
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingProduct> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, maxBatchSize) > 0) {
+            commitOrFail(remaining);
+            remaining = new ArrayList<>();
+        }
+    }
+
+    private void commitOrFail(List<PendingProduct> batch) {
+        try {
+            commit(batch);
+        } catch (Throwable exception) {
+            log.error("Group commit of {} products failed", batch.size(), exception);
+            batch.forEach(pending -> pending.result().completeExceptionally(exception));
+        }
+    }
+
+    private List<PendingProduct> collectBatch(PendingProduct first) throws InterruptedException {
+        List<PendingProduct> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + window.toNanos();
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingProduct next = remaining > 0
+                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                    : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void commit(List<PendingProduct> batch) {
+        batchSizes.record(batch.size());
+        if (batch.size() > 1) {
+            try {
+                List<Product> products = delegate.createProducts(batch.stream()
+                        .map(pending -> new Product(null, pending.title(), pending.details()))
+                        .toList());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete(products.get(i));
+                }
+                return;
+            } catch (RuntimeException exception) {
+                log.warn("Group commit of {} products failed, creating them one by one", batch.size(), exception);
+            }
+        }
+
+        for (PendingProduct pending : batch) {
+            try {
+                pending.result().complete(delegate.createProduct(pending.title(), pending.details()));
+            } catch (RuntimeException exception) {
+                pending.result().completeExceptionally(exception);
+            }
+        }
+    }
+
+    record PendingProduct(String title, String details, CompletableFuture<Product> result) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.catalogue.service;
+
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String messageKey) {
+        super(messageKey);
+    }
+
+    public InvalidRequestException(String messageKey, Throwable cause) {
+        super(messageKey, cause);
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.catalogue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ProductChangeNotificationListener implements SmartLifecycle {
+    public static final String CHANNEL = "catalogue_product_changed";
+    private static final String RESYNC = "RESYNC";
+    private static final Set<String> OPERATIONS = Set.of("INSERT", "UPDATE", "DELETE");
+
+    private final String origin;
+    private final DataSource dataSource;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration pollTimeout;
+    private final Duration probeInterval;
+    private final Duration minReconnectDelay;
+    private final Duration maxReconnectDelay;
+    private volatile boolean running;
+    private Thread thread;
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("product-change-listener")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        Duration reconnectDelay = minReconnectDelay;
+        boolean changesLost = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + CHANNEL);
+                }
+                log.info("Listening for product changes on channel {}", CHANNEL);
+
+                if (changesLost) {
+                    resync();
+                    changesLost = false;
+                }
+                reconnectDelay = minReconnectDelay;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                long lastProbe = System.nanoTime();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            apply(connection, notification.getParameter());
+                        }
+                    }
+                    if (System.nanoTime() - lastProbe >= probeInterval.toNanos()) {
+                        probe(connection);
+                        lastProbe = System.nanoTime();
+                    }
+                }
+            } catch (SQLException | RuntimeException exception) {
+                if (!running) {
+                    break;
+                }
+
+                changesLost = true;
+                log.warn("Product change listener failed, reconnecting in {}", reconnectDelay, exception);
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                reconnectDelay = reconnectDelay.multipliedBy(2).compareTo(maxReconnectDelay) > 0
+                        ? maxReconnectDelay
+                        : reconnectDelay.multipliedBy(2);
+            }
+        }
+    }
+
+    private void probe(Connection connection) throws SQLException {
+        // A half-open connection keeps returning no notifications instead of failing
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, probeInterval.toSeconds()));
+            statement.execute("select 1");
+        }
+    }
+
+    void apply(Connection connection, String payload) throws SQLException {
+        String[] parts = payload.split(":", 3);
+        if (parts.length == 2 && parts[1].equals(RESYNC)) {
+            if (!parts[0].equals(origin)) {
+                resync();
+            }
+            return;
+        }
+
+        List<Integer> ids = parts.length == 3 && OPERATIONS.contains(parts[1]) ? parseIds(parts[2]) : null;
+        if (ids == null) {
+            log.warn("Ignoring malformed product change notification {}", payload);
+            return;
+        }
+        if (parts[0].equals(origin)) {
+            return;
+        }
+
+        Cache cache = productsCache();
+        ids.forEach(cache::evict);
+        Map<Integer, String> titles = parts[1].equals("DELETE") ? Map.of() : findTitles(connection, ids);
+        for (Integer id : ids) {
+            String title = titles.get(id);
+            eventPublisher.publishEvent(title == null
+                    ? ProductChangedEvent.deleted(id)
+                    : ProductChangedEvent.saved(id, title));
+        }
+    }
+
+    void resync() {
+        log.info("Product changes may have been lost, resynchronizing caches");
+        productsCache().clear();
+        eventPublisher.publishEvent(new ProductChangesLostEvent());
+    }
+
+    private static Map<Integer, String> findTitles(Connection connection, List<Integer> ids) throws SQLException {
+        Map<Integer, String> titles = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select id, c_title from catalogue.t_product where id = any(?)")) {
+            statement.setArray(1, connection.createArrayOf("integer", ids.toArray()));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    titles.put(resultSet.getInt("id"), resultSet.getString("c_title"));
+                }
+            }
+        }
+        return titles;
+    }
+
+    private static List<Integer> parseIds(String ids) {
+        try {
+            return Arrays.stream(ids.split(","))
+                    .map(Integer::valueOf)
+                    .toList();
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private Cache productsCache() {
+        return cacheManager.getCache("products");
+    }
+}
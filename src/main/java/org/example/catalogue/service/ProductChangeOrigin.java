@@ -0,0 +1,26 @@
+package org.example.catalogue.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.UUID;
+
+public class ProductChangeOrigin implements BeanPostProcessor {
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            // Lets the change trigger tag notifications with the node that made the change
+            String tagOrigin = "set catalogue.node_id = '%s'".formatted(nodeId);
+            dataSource.setConnectionInitSql(dataSource.getConnectionInitSql() == null
+                    ? tagOrigin
+                    : dataSource.getConnectionInitSql() + "; " + tagOrigin);
+        }
+        return bean;
+    }
+}
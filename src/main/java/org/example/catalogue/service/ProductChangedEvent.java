@@ -0,0 +1,15 @@
+package org.example.catalogue.service;
+
+public record ProductChangedEvent(int id, String title) {
+    public static ProductChangedEvent saved(int id, String title) {
+        return new ProductChangedEvent(id, title);
+    }
+
+    public static ProductChangedEvent deleted(int id) {
+        return new ProductChangedEvent(id, null);
+    }
+
+    public boolean isDeleted() {
+        return title == null;
+    }
+}
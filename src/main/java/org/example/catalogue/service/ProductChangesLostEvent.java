@@ -0,0 +1,4 @@
+package org.example.catalogue.service;
+
+public record ProductChangesLostEvent() {
+}
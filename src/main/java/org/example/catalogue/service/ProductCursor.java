@@ -0,0 +1,47 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.ProductView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record ProductCursor(ProductSort sort, int id, String title) {
+    private static final String INVALID_CURSOR = "catalogue.products.errors.cursor_is_invalid";
+
+    public static ProductCursor first(ProductSort sort) {
+        return new ProductCursor(sort, Integer.MIN_VALUE, "");
+    }
+
+    public static ProductCursor after(ProductSort sort, ProductView product) {
+        return new ProductCursor(sort, product.id(), sort == ProductSort.TITLE ? product.title() : null);
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(":", 3);
+            ProductSort sort = ProductSort.of(parts[0]);
+            int id = Integer.parseInt(parts[1]);
+            return switch (sort) {
+                case ID -> {
+                    if (parts.length != 2) {
+                        throw new InvalidRequestException(INVALID_CURSOR);
+                    }
+                    yield new ProductCursor(sort, id, null);
+                }
+                case TITLE -> new ProductCursor(sort, id, parts[2]);
+            };
+        } catch (InvalidRequestException | IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new InvalidRequestException(INVALID_CURSOR, exception);
+        }
+    }
+
+    public String encode() {
+        String value = switch (sort) {
+            case ID -> "%s:%d".formatted(sort.parameter(), id);
+            case TITLE -> "%s:%d:%s".formatted(sort.parameter(), id, title);
+        };
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.catalogue.service;
+
+import java.util.List;
+
+public record ProductImportResult(long imported, long rejected, List<RejectedProductRow> rejectedRows) {
+}
@@ -0,0 +1,8 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.ProductView;
+
+import java.util.List;
+
+public record ProductPage(List<ProductView> products, ProductCursor next) {
+}
@@ -0,0 +1,38 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.ProductSearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record ProductSearchCursor(float rank, int id) {
+    private static final String INVALID_CURSOR = "catalogue.products.errors.cursor_is_invalid";
+
+    public static ProductSearchCursor first() {
+        return new ProductSearchCursor(Float.MAX_VALUE, Integer.MIN_VALUE);
+    }
+
+    public static ProductSearchCursor after(ProductSearchHit hit) {
+        return new ProductSearchCursor(hit.rank(), hit.id());
+    }
+
+    public static ProductSearchCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(":");
+            if (parts.length != 3 || !parts[0].equals("rank")) {
+                throw new InvalidRequestException(INVALID_CURSOR);
+            }
+            return new ProductSearchCursor(Float.intBitsToFloat(Integer.parseInt(parts[1])),
+                    Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidRequestException(INVALID_CURSOR, exception);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("rank:%d:%d".formatted(Float.floatToIntBits(rank), id)
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.ProductSearchHit;
+
+import java.util.List;
+
+public record ProductSearchPage(List<ProductSearchHit> hits, ProductSearchCursor next) {
+}
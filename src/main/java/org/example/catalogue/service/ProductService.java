@@ -1,15 +1,28 @@
 package org.example.catalogue.service;
 
 import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ProductService {
-    Iterable<Product> findAllProducts(String filter);
+    ProductPage findAllProducts(String filter, ProductCursor cursor, int limit);
+
+    ProductSearchPage searchProducts(String query, ProductSearchCursor cursor, int limit);
+
+    void processAllProducts(String filter, Consumer<ProductView> consumer);
 
     Product createProduct(String title, String details);
 
-    Optional<Product> findProduct(int productId);
+    List<Product> createProducts(List<Product> products);
+
+    Optional<ProductView> findProduct(int productId);
+
+    Map<Integer, ProductView> findProducts(Collection<Integer> productIds);
 
     void updateProduct(Integer id, String title, String details);
 
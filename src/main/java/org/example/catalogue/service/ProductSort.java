@@ -0,0 +1,21 @@
+package org.example.catalogue.service;
+
+import java.util.Locale;
+
+public enum ProductSort {
+    ID,
+    TITLE;
+
+    public static ProductSort of(String value) {
+        for (ProductSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new InvalidRequestException("catalogue.products.errors.sort_is_invalid");
+    }
+
+    public String parameter() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
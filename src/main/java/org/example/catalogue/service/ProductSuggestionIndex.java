@@ -0,0 +1,117 @@
+package org.example.catalogue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catalogue.entity.ProductSuggestion;
+import org.example.catalogue.entity.ProductView;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ProductSuggestionIndex {
+    private static final Comparator<ProductSuggestion> ORDER = Comparator
+            .comparing(ProductSuggestion::title, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingInt(ProductSuggestion::id);
+
+    private final int maxEntries;
+    private final ConcurrentSkipListSet<ProductSuggestion> suggestions = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentHashMap<Integer, ProductSuggestion> suggestionsById = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Set<Integer> changedDuringLoad;
+
+    public void load(Stream<ProductView> products) {
+        Set<Integer> changed = ConcurrentHashMap.newKeySet();
+        loadLock.lock();
+        changedDuringLoad = changed;
+        try {
+            suggestionsById.keySet().forEach(id -> suggestionsById.computeIfPresent(id,
+                    (key, previous) -> changed.contains(key) ? previous : removeSuggestion(previous)));
+            products.forEach(product -> suggestionsById.compute(product.id(), (id, previous) ->
+                    previous != null || changed.contains(id) || isFull() ? previous : add(id, product.title())));
+        } finally {
+            changedDuringLoad = null;
+            loadLock.unlock();
+        }
+
+        if (isFull()) {
+            log.warn("Product suggestion index is full ({} entries), remaining titles were not indexed",
+                    maxEntries);
+        }
+    }
+
+    public void put(int id, String title) {
+        markChanged(id);
+        suggestionsById.compute(id, (key, previous) -> {
+            if (previous != null) {
+                suggestions.remove(previous);
+            } else if (isFull()) {
+                log.debug("Product suggestion index is full, product {} is not indexed", key);
+                return null;
+            }
+            return add(key, title);
+        });
+    }
+
+    public void remove(int id) {
+        markChanged(id);
+        suggestionsById.computeIfPresent(id, (key, previous) -> removeSuggestion(previous));
+    }
+
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        String normalizedPrefix = prefix.strip();
+        List<ProductSuggestion> result = new ArrayList<>(limit);
+        for (ProductSuggestion suggestion : suggestions.tailSet(
+                new ProductSuggestion(Integer.MIN_VALUE, normalizedPrefix))) {
+            if (result.size() == limit || !suggestion.title()
+                    .regionMatches(true, 0, normalizedPrefix, 0, normalizedPrefix.length())) {
+                break;
+            }
+            result.add(suggestion);
+        }
+        return result;
+    }
+
+    public int size() {
+        return suggestionsById.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.id());
+        } else {
+            put(event.id(), event.title());
+        }
+    }
+
+    private boolean isFull() {
+        return suggestionsById.size() >= maxEntries;
+    }
+
+    private ProductSuggestion add(int id, String title) {
+        ProductSuggestion suggestion = new ProductSuggestion(id, title.strip());
+        suggestions.add(suggestion);
+        return suggestion;
+    }
+
+    private ProductSuggestion removeSuggestion(ProductSuggestion suggestion) {
+        suggestions.remove(suggestion);
+        return null;
+    }
+
+    private void markChanged(int id) {
+        Set<Integer> changed = changedDuringLoad;
+        if (changed != null) {
+            changed.add(id);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.catalogue.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.repository.ProductRepository;
+import org.example.catalogue.repository.ReplicaDataSource;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ProductSuggestionIndexLoader {
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // A reload replaces the whole index, so reading a lagging replica would drop the newest products
+        ReplicaDataSource.onPrimary(() -> transactionTemplate.execute(status -> {
+            try (Stream<ProductView> products = productRepository.streamAllViewsOrderById()) {
+                productSuggestionIndex.load(products);
+            }
+            return null;
+        }));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChangesLost(ProductChangesLostEvent event) {
+        load();
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.catalogue.service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ProductTransferService {
+    void exportProducts(OutputStream output);
+
+    ProductImportResult importProducts(InputStream input, int maxRejectedRows);
+}
@@ -0,0 +1,4 @@
+package org.example.catalogue.service;
+
+public record RejectedProductRow(long row, Integer id, String title, String details) {
+}
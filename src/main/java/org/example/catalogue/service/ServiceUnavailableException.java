@@ -0,0 +1,11 @@
+package org.example.catalogue.service;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String messageKey) {
+        super(messageKey);
+    }
+
+    public ServiceUnavailableException(String messageKey, Throwable cause) {
+        super(messageKey, cause);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.catalogue.web;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.controller.payload.UpdateProductPayload;
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+public class ProductProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+    private static final int PRODUCT_ID = 1;
+    private static final int PRODUCT_TITLE = 2;
+    private static final int PRODUCT_DETAILS = 3;
+    private static final int PRODUCT_LIST_PRODUCTS = 1;
+    private static final int PAYLOAD_TITLE_TAG = 1 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int PAYLOAD_DETAILS_TAG = 2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    public ProductProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isPayload(clazz) || isProduct(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return isPayload(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type instanceof Class<?> clazz && canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return isProduct(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (isProductList(type) || isProduct(clazz)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal((Class<?>) type, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        String title = null;
+        String details = null;
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(inputMessage.getBody());
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                switch (tag) {
+                    case PAYLOAD_TITLE_TAG -> title = input.readString();
+                    case PAYLOAD_DETAILS_TAG -> details = input.readString();
+                    default -> input.skipField(tag);
+                }
+            }
+        } catch (InvalidProtocolBufferException exception) {
+            throw new HttpMessageNotReadableException("Invalid protobuf payload: " + exception.getMessage(),
+                    exception, inputMessage);
+        }
+
+        return clazz == NewProductPayload.class
+                ? new NewProductPayload(title, details)
+                : new UpdateProductPayload(title, details);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (object instanceof List<?> products) {
+            for (Object product : products) {
+                ProductView view = toView(product);
+                output.writeTag(PRODUCT_LIST_PRODUCTS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(computeProductSize(view));
+                writeProduct(output, view);
+            }
+        } else {
+            writeProduct(output, toView(object));
+        }
+        output.flush();
+    }
+
+    private static void writeProduct(CodedOutputStream output, ProductView product) throws IOException {
+        if (product.id() != null) {
+            output.writeInt32(PRODUCT_ID, product.id());
+        }
+        if (product.title() != null) {
+            output.writeString(PRODUCT_TITLE, product.title());
+        }
+        if (product.details() != null) {
+            output.writeString(PRODUCT_DETAILS, product.details());
+        }
+    }
+
+    private static int computeProductSize(ProductView product) {
+        int size = 0;
+        if (product.id() != null) {
+            size += CodedOutputStream.computeInt32Size(PRODUCT_ID, product.id());
+        }
+        if (product.title() != null) {
+            size += CodedOutputStream.computeStringSize(PRODUCT_TITLE, product.title());
+        }
+        if (product.details() != null) {
+            size += CodedOutputStream.computeStringSize(PRODUCT_DETAILS, product.details());
+        }
+        return size;
+    }
+
+    private static ProductView toView(Object product) {
+        return product instanceof Product entity ? ProductView.of(entity) : (ProductView) product;
+    }
+
+    private static boolean isPayload(Class<?> clazz) {
+        return clazz == NewProductPayload.class || clazz == UpdateProductPayload.class;
+    }
+
+    private static boolean isProduct(Class<?> clazz) {
+        return clazz == ProductView.class || clazz == Product.class;
+    }
+
+    private static boolean isProductList(Type type) {
+        return type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && List.class.isAssignableFrom(rawType)
+                && parameterizedType.getActualTypeArguments()[0] == ProductView.class;
+    }
+}
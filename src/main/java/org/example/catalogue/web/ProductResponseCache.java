@@ -0,0 +1,137 @@
+package org.example.catalogue.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.service.ProductChangedEvent;
+import org.example.catalogue.service.ProductChangesLostEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ProductResponseCache {
+    private final List<HttpMessageConverter<?>> messageConverters;
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final boolean caching;
+    private final Cache<Integer, Map<MediaType, EncodedProduct>> cache;
+    private final List<MediaType> producibleMediaTypes;
+
+    public ProductResponseCache(List<HttpMessageConverter<?>> messageConverters,
+                                ContentNegotiationManager contentNegotiationManager, long maximumSize,
+                                MeterRegistry meterRegistry) {
+        this.messageConverters = messageConverters;
+        this.contentNegotiationManager = contentNegotiationManager;
+        caching = maximumSize > 0;
+        cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-responses");
+        producibleMediaTypes = messageConverters.stream()
+                .filter(converter -> converter.canWrite(ProductView.class, null))
+                .flatMap(converter -> converter.getSupportedMediaTypes(ProductView.class).stream())
+                .filter(MediaType::isConcrete)
+                .distinct()
+                .toList();
+    }
+
+    public Optional<EncodedProduct> find(ProductView product, NativeWebRequest request) {
+        if (!caching) {
+            return Optional.empty();
+        }
+
+        MediaType contentType = negotiate(request);
+        if (contentType == null) {
+            return Optional.empty();
+        }
+
+        Map<MediaType, EncodedProduct> representations = cache.get(product.id(),
+                id -> new ConcurrentHashMap<>());
+        EncodedProduct encoded = representations.get(contentType);
+        if (encoded == null || !Objects.equals(encoded.version(), product.version())) {
+            encoded = encode(product, contentType);
+            representations.put(contentType, encoded);
+        }
+        return Optional.of(encoded);
+    }
+
+    public static String eTag(ProductView product, MediaType contentType) {
+        return "\"%d-%s\"".formatted(product.version(), contentType.getSubtype());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        cache.invalidate(event.id());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChangesLost(ProductChangesLostEvent event) {
+        cache.invalidateAll();
+    }
+
+    public MediaType negotiate(NativeWebRequest request) {
+        List<MediaType> acceptableMediaTypes;
+        try {
+            acceptableMediaTypes = contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException exception) {
+            return null;
+        }
+
+        for (MediaType acceptableMediaType : acceptableMediaTypes) {
+            for (MediaType producibleMediaType : producibleMediaTypes) {
+                if (acceptableMediaType.isCompatibleWith(producibleMediaType)) {
+                    return producibleMediaType;
+                }
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private EncodedProduct encode(ProductView product, MediaType contentType) {
+        for (HttpMessageConverter<?> converter : messageConverters) {
+            if (converter.canWrite(ProductView.class, contentType)) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+                HttpHeaders headers = new HttpHeaders();
+                try {
+                    ((HttpMessageConverter<Object>) converter).write(product, contentType, new HttpOutputMessage() {
+                        @Override
+                        public OutputStream getBody() {
+                            return body;
+                        }
+
+                        @Override
+                        public HttpHeaders getHeaders() {
+                            return headers;
+                        }
+                    });
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                return new EncodedProduct(product.version(), headers.getContentType(), eTag(product, contentType),
+                        body.toByteArray());
+            }
+        }
+        throw new IllegalStateException("No converter can write %s as %s".formatted(ProductView.class, contentType));
+    }
+
+    public record EncodedProduct(Long version, MediaType contentType, String eTag, byte[] body) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.catalogue.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.repository.ReplicaDataSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Principal principal = request.getUserPrincipal();
+        if (principal == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String client = principal.getName();
+        ReplicaDataSource.setPrimaryRequired(recentWriters.getIfPresent(client) != null);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaDataSource.setPrimaryRequired(false);
+            if (!SAFE_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1 @@
+create index idx_product_title_id on catalogue.t_product (c_title, id);
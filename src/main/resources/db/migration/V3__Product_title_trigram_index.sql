@@ -0,0 +1,3 @@
+create extension if not exists pg_trgm;
+
+create index idx_product_title_trgm on catalogue.t_product using gin (c_title gin_trgm_ops);
@@ -0,0 +1 @@
+alter sequence catalogue.t_product_id_seq increment by 50;
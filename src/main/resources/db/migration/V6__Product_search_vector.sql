@@ -0,0 +1,7 @@
+alter table catalogue.t_product
+    add column c_search tsvector generated always as (
+        setweight(to_tsvector('russian', coalesce(c_title, '')), 'A') ||
+        setweight(to_tsvector('russian', coalesce(c_details, '')), 'B')
+    ) stored;
+
+create index idx_product_search on catalogue.t_product using gin (c_search);
@@ -0,0 +1,18 @@
+create function catalogue.notify_product_changed() returns trigger
+    language plpgsql as
+$$
+begin
+    if tg_op = 'DELETE' then
+        perform pg_notify('catalogue_product_changed', tg_op || ':' || old.id);
+    else
+        perform pg_notify('catalogue_product_changed', tg_op || ':' || new.id || ':' || new.c_title);
+    end if;
+    return null;
+end;
+$$;
+
+create trigger trg_product_changed
+    after insert or update or delete
+    on catalogue.t_product
+    for each row
+execute function catalogue.notify_product_changed();
@@ -0,0 +1,45 @@
+drop trigger trg_product_changed on catalogue.t_product;
+
+drop function catalogue.notify_product_changed();
+
+create function catalogue.notify_products_changed() returns trigger
+    language plpgsql as
+$$
+declare
+    origin text := coalesce(current_setting('catalogue.node_id', true), '');
+    ids    text;
+begin
+    select string_agg(id::text, ',') into ids from changed_products;
+    if ids is null then
+        return null;
+    end if;
+
+    if octet_length(origin || ':' || tg_op || ':' || ids) > 7900 then
+        perform pg_notify('catalogue_product_changed', origin || ':RESYNC');
+    else
+        perform pg_notify('catalogue_product_changed', origin || ':' || tg_op || ':' || ids);
+    end if;
+    return null;
+end;
+$$;
+
+create trigger trg_products_inserted
+    after insert
+    on catalogue.t_product
+    referencing new table as changed_products
+    for each statement
+execute function catalogue.notify_products_changed();
+
+create trigger trg_products_updated
+    after update
+    on catalogue.t_product
+    referencing new table as changed_products
+    for each statement
+execute function catalogue.notify_products_changed();
+
+create trigger trg_products_deleted
+    after delete
+    on catalogue.t_product
+    referencing old table as changed_products
+    for each statement
+execute function catalogue.notify_products_changed();
@@ -0,0 +1,57 @@
+package org.example.catalogue.reactive.controller;
+
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.reactive.service.ReactiveProductService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductRestControllerTest {
+
+    @Mock
+    ReactiveProductService productService;
+
+    @Mock
+    MessageSource messageSource;
+
+    @InjectMocks
+    ReactiveProductRestController controller;
+
+    @Test
+    void findProduct_ProductExists_ReturnsProductWithETag() {
+        doReturn(Mono.just(new ProductView(1, "Название товара", "Описание товара", 3L)))
+                .when(productService).findProduct(1);
+
+        StepVerifier.create(controller.findProduct(1))
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.getStatusCode());
+                    assertEquals("\"3\"", response.getHeaders().getETag());
+                    assertEquals(new ProductView(1, "Название товара", "Описание товара", 3L), response.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findProduct_ProductDoesNotExist_EmitsNoSuchElementException() {
+        doReturn(Mono.empty()).when(productService).findProduct(1);
+
+        StepVerifier.create(controller.findProduct(1))
+                .expectErrorSatisfies(exception -> {
+                    assertEquals(NoSuchElementException.class, exception.getClass());
+                    assertEquals("catalogue.errors.product.not_found", exception.getMessage());
+                })
+                .verify();
+    }
+}
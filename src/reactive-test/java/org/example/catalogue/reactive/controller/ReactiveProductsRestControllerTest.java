@@ -0,0 +1,89 @@
+package org.example.catalogue.reactive.controller;
+
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.reactive.service.ReactiveProductService;
+import org.example.catalogue.service.InvalidRequestException;
+import org.example.catalogue.service.ProductCursor;
+import org.example.catalogue.service.ProductPage;
+import org.example.catalogue.service.ProductSort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductsRestControllerTest {
+
+    @Mock
+    ReactiveProductService productService;
+
+    @InjectMocks
+    ReactiveProductsRestController controller;
+
+    @Test
+    void findProducts_NextPageExists_ReturnsPageWithNextLink() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+        var cursor = ProductCursor.after(ProductSort.ID, new ProductView(2, "Второй товар", null, 0L));
+        doReturn(Mono.just(new ProductPage(List.of(new ProductView(1, "Первый товар", null, 0L),
+                new ProductView(2, "Второй товар", null, 0L)), cursor)))
+                .when(productService).findAllProducts(null, ProductCursor.first(ProductSort.ID), 2);
+
+        StepVerifier.create(controller.findProducts(null, "id", null, 2, uriComponentsBuilder))
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.getStatusCode());
+                    assertNotNull(response.getHeaders().getETag());
+                    assertEquals("<http://localhost/catalogue-api/products?sort=id&limit=2&after=%s>; rel=\"next\""
+                            .formatted(cursor.encode()), response.getHeaders().getFirst(HttpHeaders.LINK));
+                    assertEquals(List.of(new ProductView(1, "Первый товар", null, 0L),
+                            new ProductView(2, "Второй товар", null, 0L)), response.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findProducts_LimitIsInvalid_ThrowsInvalidRequestException() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.findProducts(null, "id", null, 501, uriComponentsBuilder));
+
+        assertEquals("catalogue.products.errors.limit_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void findProducts_SortIsInvalid_ThrowsInvalidRequestException() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.findProducts(null, "price", null, 50, uriComponentsBuilder));
+
+        assertEquals("catalogue.products.errors.sort_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void streamProducts_ReturnsProductsFromService() {
+        doReturn(Flux.just(new ProductView(1, "Первый товар", null, 0L),
+                new ProductView(2, "Второй товар", null, 0L)))
+                .when(productService).streamAllProducts("товар");
+
+        StepVerifier.create(controller.streamProducts("товар"), 1)
+                .expectNext(new ProductView(1, "Первый товар", null, 0L))
+                .thenRequest(1)
+                .expectNext(new ProductView(2, "Второй товар", null, 0L))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.catalogue.reactive.config;
+
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityBeans {
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .authorizeExchange(authorizeExchange -> authorizeExchange
+                        .matchers(EndpointRequest.to("health")).permitAll()
+                        .matchers(EndpointRequest.toAnyEndpoint()).hasAuthority("SCOPE_manage_catalogue")
+                        .pathMatchers(HttpMethod.POST, "/catalogue-api/products")
+                        .hasAuthority("SCOPE_edit_catalogue")
+                        .pathMatchers(HttpMethod.PATCH, "/catalogue-api/products/{productId}")
+                        .hasAuthority("SCOPE_edit_catalogue")
+                        .pathMatchers(HttpMethod.DELETE, "/catalogue-api/products/{productId}")
+                        .hasAuthority("SCOPE_edit_catalogue")
+                        .pathMatchers(HttpMethod.GET)
+                        .hasAuthority("SCOPE_view_catalogue")
+                        .anyExchange().denyAll())
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .oauth2ResourceServer(oauth2ResourceServer -> oauth2ResourceServer
+                        .jwt(Customizer.withDefaults()))
+                .build();
+    }
+}
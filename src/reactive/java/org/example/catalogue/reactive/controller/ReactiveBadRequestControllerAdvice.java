@@ -0,0 +1,45 @@
+package org.example.catalogue.reactive.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.service.InvalidRequestException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.util.Locale;
+
+@ControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBadRequestControllerAdvice {
+    private final MessageSource messageSource;
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleWebExchangeBindException(WebExchangeBindException bindException,
+                                                                        Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail
+                .forStatusAndDetail(HttpStatus.BAD_REQUEST, messageSource.getMessage("errors.400.title",
+                        new Object[0], "errors.400.title", locale));
+        problemDetail.setProperty("errors",
+                bindException.getAllErrors().stream()
+                        .map(ObjectError::getDefaultMessage)
+                        .toList());
+        return ResponseEntity.badRequest()
+                .body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidRequestException(InvalidRequestException exception,
+                                                                       Locale locale) {
+        return ResponseEntity.badRequest()
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                        messageSource.getMessage(exception.getMessage(), new Object[0],
+                                exception.getMessage(), locale)));
+    }
+}
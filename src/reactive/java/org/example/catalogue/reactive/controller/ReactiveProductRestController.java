@@ -0,0 +1,57 @@
+package org.example.catalogue.reactive.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.controller.payload.UpdateProductPayload;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.reactive.service.ReactiveProductService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("catalogue-api/products/{productId}")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductRestController {
+    private final ReactiveProductService productService;
+    private final MessageSource messageSource;
+
+    @GetMapping
+    public Mono<ResponseEntity<ProductView>> findProduct(@PathVariable("productId") int productId) {
+        return productService.findProduct(productId)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("catalogue.errors.product.not_found")))
+                .map(product -> ResponseEntity.ok()
+                        .eTag("\"%d\"".formatted(product.version()))
+                        .body(product));
+    }
+
+    @PatchMapping
+    public Mono<ResponseEntity<Void>> updateProduct(@PathVariable("productId") int productId,
+                                                    @Valid @RequestBody UpdateProductPayload payload) {
+        return productService.updateProduct(productId, payload.title(), payload.details())
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    @DeleteMapping
+    public Mono<ResponseEntity<Void>> deleteProduct(@PathVariable("productId") int productId) {
+        return productService.deleteProduct(productId)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<ProblemDetail> handleNoSuchElementException(NoSuchElementException exception,
+                                                                      Locale locale) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND,
+                        messageSource.getMessage(exception.getMessage(), new Object[0],
+                                exception.getMessage(), locale)));
+    }
+}
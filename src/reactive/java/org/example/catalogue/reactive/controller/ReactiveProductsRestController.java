@@ -0,0 +1,97 @@
+package org.example.catalogue.reactive.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.reactive.service.ReactiveProductService;
+import org.example.catalogue.service.InvalidRequestException;
+import org.example.catalogue.service.ProductCursor;
+import org.example.catalogue.service.ProductPage;
+import org.example.catalogue.service.ProductSort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("catalogue-api/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductsRestController {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ReactiveProductService productService;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<ProductView>>> findProducts(
+            @RequestParam(name = "filter", required = false) String filter,
+            @RequestParam(name = "sort", defaultValue = "id") String sort,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            UriComponentsBuilder uriComponentsBuilder) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("catalogue.products.errors.limit_is_invalid");
+        }
+
+        ProductSort productSort = ProductSort.of(sort);
+        ProductCursor cursor = after == null ? ProductCursor.first(productSort) : ProductCursor.decode(after);
+        if (cursor.sort() != productSort) {
+            throw new InvalidRequestException("catalogue.products.errors.cursor_is_invalid");
+        }
+
+        return productService.findAllProducts(filter, cursor, limit)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .eTag(eTag(page));
+                    if (page.next() != null) {
+                        response.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(uriComponentsBuilder
+                                .replacePath("/catalogue-api/products")
+                                .replaceQuery(null)
+                                .queryParamIfPresent("filter", Optional.ofNullable(filter))
+                                .queryParam("sort", productSort.parameter())
+                                .queryParam("limit", limit)
+                                .queryParam("after", page.next().encode())
+                                .toUriString()));
+                    }
+                    return response.body(page.products());
+                });
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductView> streamProducts(@RequestParam(name = "filter", required = false) String filter) {
+        return productService.streamAllProducts(filter);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ProductView>> createProduct(@Valid @RequestBody NewProductPayload payload,
+                                                           UriComponentsBuilder uriComponentsBuilder) {
+        return productService.createProduct(payload.title(), payload.details())
+                .map(product -> ResponseEntity
+                        .created(uriComponentsBuilder
+                                .replacePath("/catalogue-api/products/{productId}")
+                                .build(Map.of("productId", product.id())))
+                        .body(product));
+    }
+
+    private static String eTag(ProductPage page) {
+        StringBuilder versions = new StringBuilder();
+        for (ProductView product : page.products()) {
+            versions.append(product.id()).append(':').append(product.version()).append(';');
+        }
+        if (page.next() != null) {
+            versions.append(page.next().encode());
+        }
+        return "\"%s\"".formatted(DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.catalogue.reactive.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.entity.ProductView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<ProductView> findAllViewsAfterIdOrderById(int afterId, int limit) {
+        return databaseClient.sql("""
+                        select id, c_title, c_details, c_version from catalogue.t_product
+                        where id > :afterId
+                        order by id
+                        limit :limit""")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::productView)
+                .all();
+    }
+
+    public Flux<ProductView> findAllViewsAfterTitleOrderByTitle(String afterTitle, int afterId, int limit) {
+        return databaseClient.sql("""
+                        select id, c_title, c_details, c_version from catalogue.t_product
+                        where (c_title, id) > (:afterTitle, :afterId)
+                        order by c_title, id
+                        limit :limit""")
+                .bind("afterTitle", afterTitle)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::productView)
+                .all();
+    }
+
+    public Flux<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(String filter, int afterId,
+                                                                               int limit) {
+        return databaseClient.sql("""
+                        select id, c_title, c_details, c_version from catalogue.t_product
+                        where c_title ilike :filter and id > :afterId
+                        order by id
+                        limit :limit""")
+                .bind("filter", filter)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::productView)
+                .all();
+    }
+
+    public Flux<ProductView> findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle(String filter,
+                                                                                     String afterTitle,
+                                                                                     int afterId, int limit) {
+        return databaseClient.sql("""
+                        select id, c_title, c_details, c_version from catalogue.t_product
+                        where c_title ilike :filter and (c_title, id) > (:afterTitle, :afterId)
+                        order by c_title, id
+                        limit :limit""")
+                .bind("filter", filter)
+                .bind("afterTitle", afterTitle)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::productView)
+                .all();
+    }
+
+    public Flux<ProductView> streamAllViewsOrderById() {
+        return databaseClient.sql("""
+                        select id, c_title, c_details, c_version from catalogue.t_product
+                        order by id""")
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(ReactiveProductRepository::productView)
+                .all();
+    }
+
+    public Flux<ProductView> streamAllViewsByTitleLikeIgnoreCaseOrderById(String filter) {
+        return databaseClient.sql("""
+                        select id, c_title, c_details, c_version from catalogue.t_product
+                        where c_title ilike :filter
+                        order by id""")
+                .bind("filter", filter)
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(ReactiveProductRepository::productView)
+                .all();
+    }
+
+    public Mono<ProductView> findViewById(int id) {
+        return databaseClient.sql("""
+                        select id, c_title, c_details, c_version from catalogue.t_product
+                        where id = :id""")
+                .bind("id", id)
+                .map(ReactiveProductRepository::productView)
+                .one();
+    }
+
+    public Mono<ProductView> insert(String title, String details) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        insert into catalogue.t_product (c_title, c_details)
+                        values (:title, :details)
+                        returning id, c_title, c_details, c_version""")
+                .bind("title", title);
+        return (details == null ? spec.bindNull("details", String.class) : spec.bind("details", details))
+                .map(ReactiveProductRepository::productView)
+                .one();
+    }
+
+    public Mono<Long> updateTitleAndDetailsById(int id, String title, String details) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        update catalogue.t_product
+                        set c_title = :title, c_details = :details, c_version = c_version + 1
+                        where id = :id""")
+                .bind("id", id)
+                .bind("title", title);
+        return (details == null ? spec.bindNull("details", String.class) : spec.bind("details", details))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(int id) {
+        return databaseClient.sql("delete from catalogue.t_product where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static ProductView productView(Readable row) {
+        return new ProductView(row.get("id", Integer.class), row.get("c_title", String.class),
+                row.get("c_details", String.class), row.get("c_version", Long.class));
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.catalogue.reactive.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.reactive.repository.ReactiveProductRepository;
+import org.example.catalogue.service.ProductCursor;
+import org.example.catalogue.service.ProductPage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class DefaultReactiveProductService implements ReactiveProductService {
+    private final ReactiveProductRepository productRepository;
+
+    @Override
+    public Mono<ProductPage> findAllProducts(String filter, ProductCursor cursor, int limit) {
+        Flux<ProductView> products;
+        if (filter != null && !filter.isBlank()) {
+            String pattern = containsPattern(filter);
+            products = switch (cursor.sort()) {
+                case ID -> productRepository.findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(pattern,
+                        cursor.id(), limit + 1);
+                case TITLE -> productRepository.findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle(pattern,
+                        cursor.title(), cursor.id(), limit + 1);
+            };
+        } else {
+            products = switch (cursor.sort()) {
+                case ID -> productRepository.findAllViewsAfterIdOrderById(cursor.id(), limit + 1);
+                case TITLE -> productRepository.findAllViewsAfterTitleOrderByTitle(cursor.title(), cursor.id(),
+                        limit + 1);
+            };
+        }
+
+        return products.collectList()
+                .map(page -> {
+                    if (page.size() > limit) {
+                        List<ProductView> current = page.subList(0, limit);
+                        return new ProductPage(current, ProductCursor.after(cursor.sort(), current.get(limit - 1)));
+                    } else {
+                        return new ProductPage(page, null);
+                    }
+                });
+    }
+
+    @Override
+    public Flux<ProductView> streamAllProducts(String filter) {
+        return filter != null && !filter.isBlank()
+                ? productRepository.streamAllViewsByTitleLikeIgnoreCaseOrderById(containsPattern(filter))
+                : productRepository.streamAllViewsOrderById();
+    }
+
+    @Override
+    public Mono<ProductView> createProduct(String title, String details) {
+        return productRepository.insert(title, details);
+    }
+
+    @Override
+    public Mono<ProductView> findProduct(int productId) {
+        return productRepository.findViewById(productId);
+    }
+
+    @Override
+    public Mono<Void> updateProduct(Integer id, String title, String details) {
+        return productRepository.updateTitleAndDetailsById(id, title, details)
+                .flatMap(DefaultReactiveProductService::requireAffected);
+    }
+
+    @Override
+    public Mono<Void> deleteProduct(Integer id) {
+        return productRepository.deleteById(id)
+                .flatMap(DefaultReactiveProductService::requireAffected);
+    }
+
+    private static Mono<Void> requireAffected(long rows) {
+        return rows == 0
+                ? Mono.error(new NoSuchElementException("catalogue.errors.product.not_found"))
+                : Mono.empty();
+    }
+
+    private static String containsPattern(String filter) {
+        return "%" + filter.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
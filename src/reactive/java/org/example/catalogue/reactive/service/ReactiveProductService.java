@@ -0,0 +1,21 @@
+package org.example.catalogue.reactive.service;
+
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.service.ProductCursor;
+import org.example.catalogue.service.ProductPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductService {
+    Mono<ProductPage> findAllProducts(String filter, ProductCursor cursor, int limit);
+
+    Flux<ProductView> streamAllProducts(String filter);
+
+    Mono<ProductView> createProduct(String title, String details);
+
+    Mono<ProductView> findProduct(int productId);
+
+    Mono<Void> updateProduct(Integer id, String title, String details);
+
+    Mono<Void> deleteProduct(Integer id);
+}
@@ -0,0 +1,42 @@
+package org.example.catalogue.controller;
+
+import org.example.catalogue.service.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class BadRequestControllerAdviceTest {
+    @Mock
+    MessageSource messageSource;
+
+    @InjectMocks
+    BadRequestControllerAdvice controllerAdvice;
+
+    @Test
+    void handleInvalidRequestException_ReturnsBadRequest() {
+        var exception = new InvalidRequestException("error_code");
+        var locale = Locale.of("ru");
+
+        doReturn("error details").when(messageSource)
+                .getMessage("error_code", new Object[0], "error_code", locale);
+
+        var result = controllerAdvice.handleInvalidRequestException(exception, locale);
+
+        assertNotNull(result);
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertInstanceOf(ProblemDetail.class, result.getBody());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), result.getBody().getStatus());
+        assertEquals("error details", result.getBody().getDetail());
+    }
+}
@@ -1,29 +1,42 @@
 package org.example.catalogue.controller;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.google.protobuf.CodedOutputStream;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.web.ProductProtobufHttpMessageConverter;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Locale;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureMockMvc
 public class ProductRestControllerIT {
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @Test
     @Sql("/sql/products.sql")
     void findProduct_ProductExists_ReturnsProductsList() throws Exception {
@@ -34,6 +47,8 @@ public class ProductRestControllerIT {
                 .andDo(print())
                 .andExpectAll(
                         status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"0-json\""),
+                        header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT),
                         content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
                         content().json("""
                                 {
@@ -44,6 +59,41 @@ public class ProductRestControllerIT {
                 );
     }
 
+    @Test
+    @Sql("/sql/products.sql")
+    void findProduct_AcceptIsCbor_ReturnsCborProduct() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products/1")
+                .accept(MediaType.APPLICATION_CBOR)
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        var result = mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR)
+                )
+                .andReturn();
+
+        assertEquals(new ProductView(1, "Товар №1", "Описание товара №1", null), new CBORMapper()
+                .readValue(result.getResponse().getContentAsByteArray(), ProductView.class));
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProduct_ETagMatches_ReturnsNotModified() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0-json\"")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, "\"0-json\""),
+                        content().string("")
+                );
+    }
+
     @Test
     void findProduct_ProductDoesNotExist_ReturnsNotFound() throws Exception {
         var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products/1")
@@ -82,6 +132,46 @@ public class ProductRestControllerIT {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @Sql("/sql/products.sql")
+    void updateProduct_RequestIsProtobuf_ReturnsNoContent() throws Exception {
+        var body = new ByteArrayOutputStream();
+        var output = CodedOutputStream.newInstance(body);
+        output.writeString(1, "Новое название");
+        output.writeString(2, "Новое описание");
+        output.flush();
+
+        var requestBuilder = MockMvcRequestBuilders.patch("/catalogue-api/products/1")
+                .contentType(ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                .content(body.toByteArray())
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void updateProduct_RequestIsValid_ExecutesSingleStatement() throws Exception {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var requestBuilder = MockMvcRequestBuilders.patch("/catalogue-api/products/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                            "title": "Новое название",
+                            "details": "Новое описание"
+                        }""")
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isNoContent());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
     @Test
     @Sql("/sql/products.sql")
     void updateProduct_RequestIsInvalid_ReturnsBadRequest() throws Exception {
@@ -152,6 +242,35 @@ public class ProductRestControllerIT {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @Sql("/sql/products.sql")
+    void deleteProduct_ProductExists_ExecutesSingleStatement() throws Exception {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var requestBuilder = MockMvcRequestBuilders.delete("/catalogue-api/products/1")
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isNoContent());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteProduct_ProductDoesNotExist_ExecutesSingleStatement() throws Exception {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var requestBuilder = MockMvcRequestBuilders.delete("/catalogue-api/products/1")
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isNotFound());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
     @Test
     void deleteProduct_ProductDoesNotExist_ReturnsNotFound() throws Exception {
         var requestBuilder = MockMvcRequestBuilders.delete("/catalogue-api/products/1")
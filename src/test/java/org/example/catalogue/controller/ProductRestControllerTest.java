@@ -1,19 +1,24 @@
 package org.example.catalogue.controller;
 
 import org.example.catalogue.controller.payload.UpdateProductPayload;
-import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
 import org.example.catalogue.service.ProductService;
+import org.example.catalogue.web.ProductResponseCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.MapBindingResult;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.*;
 
@@ -29,33 +34,55 @@ class ProductRestControllerTest {
     @Mock
     MessageSource messageSource;
 
+    @Mock
+    ProductResponseCache productResponseCache;
+
     @InjectMocks
     ProductRestController controller;
 
     @Test
-    void getProduct_ProductExists_ReturnsProduct() {
-        var product = new Product(1, "Название товара", "Описание товара");
+    void findProduct_ProductExists_ReturnsProductWithETag() {
+        var product = new ProductView(1, "Название товара", "Описание товара", 3L);
+        var request = new ServletWebRequest(new MockHttpServletRequest());
         doReturn(Optional.of(product)).when(productService).findProduct(1);
+        doReturn(MediaType.APPLICATION_CBOR).when(productResponseCache).negotiate(request);
 
-        var result = controller.getProduct(1);
+        var result = controller.findProduct(1, request);
 
-        assertEquals(product, result);
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"3-cbor\"", result.getHeaders().getETag());
+        assertEquals(MediaType.APPLICATION_CBOR, result.getHeaders().getContentType());
+        assertEquals(List.of(HttpHeaders.ACCEPT), result.getHeaders().getVary());
+        assertEquals(product, result.getBody());
     }
 
     @Test
-    void getProduct_ProductDoesNotExist_ThrowsNoSuchElementException() {
-        var exception = assertThrows(NoSuchElementException.class, () -> controller.getProduct(1));
+    void findProduct_ResponseIsCached_ReturnsCachedBytesWithETag() {
+        var product = new ProductView(1, "Название товара", "Описание товара", 3L);
+        var request = new ServletWebRequest(new MockHttpServletRequest());
+        var body = "{}".getBytes();
+        doReturn(Optional.of(product)).when(productService).findProduct(1);
+        doReturn(Optional.of(new ProductResponseCache.EncodedProduct(3L, MediaType.APPLICATION_JSON, "\"3-json\"",
+                body)))
+                .when(productResponseCache).find(product, request);
 
-        assertEquals("catalogue.errors.product.not_found", exception.getMessage());
+        var result = controller.findProduct(1, request);
+
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"3-json\"", result.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT), result.getHeaders().getVary());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertSame(body, result.getBody());
     }
 
     @Test
-    void findProduct_ReturnsProduct() {
-        var product = new Product(1, "Название товара", "Описание товара");
+    void findProduct_ProductDoesNotExist_ThrowsNoSuchElementException() {
+        var exception = assertThrows(NoSuchElementException.class,
+                () -> controller.findProduct(1, new ServletWebRequest(new MockHttpServletRequest())));
 
-        var result = controller.findProduct(product);
-
-        assertEquals(product, result);
+        assertEquals("catalogue.errors.product.not_found", exception.getMessage());
     }
 
     @Test
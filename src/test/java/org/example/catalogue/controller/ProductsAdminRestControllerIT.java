@@ -0,0 +1,138 @@
+package org.example.catalogue.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductsAdminRestControllerIT {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Sql("/sql/products.sql")
+    @Sql(statements = "delete from catalogue.t_product", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void exportProducts_ReturnsCsv() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/admin/products")
+                .accept("text/csv")
+                .with(jwt().jwt(builder -> builder.claim("scope", "manage_catalogue")));
+
+        var mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith("text/csv"),
+                        content().string("""
+                                id,title,details
+                                1,Товар №1,Описание товара №1
+                                2,ААаа,аааа
+                                3,Товар №3,Описание товара №3
+                                """)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void importProducts_CsvContainsInvalidRows_ImportsValidRowsAndReportsRejectedOnes() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.post("/catalogue-api/admin/products")
+                .locale(Locale.of("ru"))
+                .contentType("text/csv")
+                .content("""
+                        id,title,details
+                        ,Новый товар,Описание нового товара
+                        1,Товар №1 обновлённый,
+                        ,ab,
+                        5,"   ab   ",
+                        """)
+                .with(jwt().jwt(builder -> builder.claim("scope", "manage_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                {
+                                    "imported": 2,
+                                    "rejected": 2,
+                                    "rejectedRows": [
+                                        {
+                                            "row": 3,
+                                            "id": null,
+                                            "errors": ["Название товара должно быть от 3 до 50 символов"]
+                                        },
+                                        {
+                                            "row": 4,
+                                            "id": 5,
+                                            "errors": ["Название товара должно содержать не менее 3 непробельных символов"]
+                                        }
+                                    ]
+                                }""")
+                );
+
+        assertEquals(Map.of("c_title", "Товар №1 обновлённый", "c_version", 1L), jdbcTemplate.queryForMap(
+                "select c_title, c_version from catalogue.t_product where id = 1"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from catalogue.t_product where c_title = 'Новый товар' and id > 3", Integer.class));
+    }
+
+    @Test
+    void importProducts_CsvIsMalformed_ReturnsBadRequest() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.post("/catalogue-api/admin/products")
+                .locale(Locale.of("ru"))
+                .contentType("text/csv")
+                .content("""
+                        id,title,details
+                        abc,Товар,Описание
+                        """)
+                .with(jwt().jwt(builder -> builder.claim("scope", "manage_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest(),
+                        content().json("""
+                                {
+                                    "detail": "Некорректный CSV-файл"
+                                }""")
+                );
+    }
+
+    @Test
+    void importProducts_UserIsNotAuthorized_ReturnsForbidden() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.post("/catalogue-api/admin/products")
+                .contentType("text/csv")
+                .content("id,title,details\n")
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.catalogue.controller;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.catalogue.controller.payload.ProductImportReport;
+import org.example.catalogue.service.ProductImportResult;
+import org.example.catalogue.service.ProductTransferService;
+import org.example.catalogue.service.RejectedProductRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductsAdminRestControllerTest {
+
+    @Mock
+    ProductTransferService productTransferService;
+
+    @Mock
+    MessageSource messageSource;
+
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    ProductsAdminRestController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ProductsAdminRestController(productTransferService, validator, messageSource);
+    }
+
+    @Test
+    void exportProducts_StreamsCsvAttachment() throws IOException {
+        var output = new ByteArrayOutputStream();
+
+        var result = controller.exportProducts();
+        result.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("attachment; filename=\"products.csv\"",
+                result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        verify(productTransferService).exportProducts(output);
+    }
+
+    @Test
+    void importProducts_RowsAreRejected_ReturnsReportWithValidationErrors() {
+        var body = new ByteArrayInputStream(new byte[0]);
+        doReturn(new ProductImportResult(1, 2, List.of(
+                new RejectedProductRow(2, null, null, "Описание"),
+                new RejectedProductRow(3, 5, "   ab   ", null))))
+                .when(productTransferService).importProducts(body, 1000);
+        doReturn("Название товара должно содержать не менее 3 непробельных символов")
+                .when(messageSource).getMessage("catalogue.products.import.errors.title_is_blank", new Object[0],
+                        "catalogue.products.import.errors.title_is_blank", Locale.ROOT);
+
+        var result = controller.importProducts(body, Locale.ROOT);
+
+        assertEquals(1, result.imported());
+        assertEquals(2, result.rejected());
+        assertEquals(2, result.rejectedRows().size());
+        assertEquals(2, result.rejectedRows().get(0).row());
+        assertEquals(1, result.rejectedRows().get(0).errors().size());
+        assertEquals(new ProductImportReport.RejectedRow(3, 5,
+                        List.of("Название товара должно содержать не менее 3 непробельных символов")),
+                result.rejectedRows().get(1));
+    }
+}
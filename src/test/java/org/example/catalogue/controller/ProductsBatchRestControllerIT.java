@@ -0,0 +1,85 @@
+package org.example.catalogue.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=2")
+@AutoConfigureMockMvc
+class ProductsBatchRestControllerIT {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void createProducts_RequestContainsValidAndInvalidItems_ReturnsResultPerItem() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.post("/catalogue-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [
+                            {"title": "Первый товар", "details": "Описание первого товара"},
+                            {"title": " ", "details": null},
+                            {"title": "Третий товар", "details": null}
+                        ]""")
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"status": 201, "product": {"title": "Первый товар", "details": "Описание первого товара"}},
+                                    {"status": 400, "errors": ["Название товара должно быть от 3 до 50 символов"]},
+                                    {"status": 201, "product": {"title": "Третий товар", "details": null}}
+                                ]"""),
+                        jsonPath("$[0].location", startsWith("http://localhost/catalogue-api/products/")),
+                        jsonPath("$[1].location").doesNotExist(),
+                        jsonPath("$[2].location", startsWith("http://localhost/catalogue-api/products/"))
+                );
+    }
+
+    @Test
+    void createProducts_BatchIsEmpty_ReturnsBadRequest() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.post("/catalogue-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]")
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "edit_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest(),
+                        content().json("""
+                                {"detail": "Пакет должен содержать от 1 до 1000 товаров"}""")
+                );
+    }
+
+    @Test
+    void createProducts_UserIsNotAuthorized_ReturnsForbidden() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.post("/catalogue-api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [{"title": "Новый товар", "details": null}]""")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.catalogue.controller;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.catalogue.controller.payload.NewProductBatchResult;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.service.InvalidRequestException;
+import org.example.catalogue.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductsBatchRestControllerTest {
+
+    @Mock
+    ProductService productService;
+
+    @Mock
+    MessageSource messageSource;
+
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    ProductsBatchRestController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ProductsBatchRestController(productService, validator, messageSource);
+    }
+
+    @Test
+    void createProducts_AllItemsAreValid_CreatesProductsInOneCall() {
+        var payloads = List.of(new NewProductPayload("Первый товар", "Описание первого товара"),
+                new NewProductPayload("Второй товар", null));
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(List.of(new Product(1, "Первый товар", "Описание первого товара"),
+                new Product(2, "Второй товар", null)))
+                .when(productService).createProducts(List.of(new Product(null, "Первый товар", "Описание первого товара"),
+                        new Product(null, "Второй товар", null)));
+
+        var result = controller.createProducts(payloads, uriComponentsBuilder, Locale.of("ru"));
+
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(
+                NewProductBatchResult.created(URI.create("http://localhost/catalogue-api/products/1"),
+                        new Product(1, "Первый товар", "Описание первого товара")),
+                NewProductBatchResult.created(URI.create("http://localhost/catalogue-api/products/2"),
+                        new Product(2, "Второй товар", null))), result.getBody());
+
+        verify(productService).createProducts(anyList());
+        verifyNoMoreInteractions(productService);
+    }
+
+    @Test
+    void createProducts_SomeItemsAreInvalid_CreatesOnlyValidItems() {
+        var payloads = Arrays.asList(new NewProductPayload("  ", null),
+                new NewProductPayload("Второй товар", null),
+                null);
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(List.of(new Product(2, "Второй товар", null)))
+                .when(productService).createProducts(List.of(new Product(null, "Второй товар", null)));
+        doReturn("item is null").when(messageSource)
+                .getMessage("catalogue.products.batch.errors.item_is_null", new Object[0],
+                        "catalogue.products.batch.errors.item_is_null", Locale.of("ru"));
+
+        var result = controller.createProducts(payloads, uriComponentsBuilder, Locale.of("ru"));
+
+        assertNotNull(result);
+        assertEquals(3, result.getBody().size());
+        assertEquals(400, result.getBody().get(0).status());
+        assertEquals(1, result.getBody().get(0).errors().size());
+        assertEquals(NewProductBatchResult.created(URI.create("http://localhost/catalogue-api/products/2"),
+                new Product(2, "Второй товар", null)), result.getBody().get(1));
+        assertEquals(NewProductBatchResult.invalid(List.of("item is null")), result.getBody().get(2));
+    }
+
+    @Test
+    void createProducts_AllItemsAreInvalid_DoesNotCallService() {
+        var payloads = List.of(new NewProductPayload(null, null));
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var result = controller.createProducts(payloads, uriComponentsBuilder, Locale.of("ru"));
+
+        assertNotNull(result);
+        assertEquals(400, result.getBody().get(0).status());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void createProducts_BatchIsEmpty_ThrowsInvalidRequestException() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.createProducts(List.of(), uriComponentsBuilder, Locale.of("ru")));
+
+        assertEquals("catalogue.products.batch.errors.size_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
+}
@@ -9,11 +9,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Locale;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -24,6 +26,29 @@ class ProductsRestControllerIT {
     @Autowired
     MockMvc mockMvc;
 
+    @Test
+    @Sql("/sql/products.sql")
+    void findProductsByIds_ReturnsProductsInRequestOrderAndMissingIds() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("ids", "3,1000,1")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                {
+                                    "products": [
+                                        {"id": 3, "title": "Товар №3", "details": "Описание товара №3"},
+                                        {"id": 1, "title": "Товар №1", "details": "Описание товара №1"}
+                                    ],
+                                    "missing": [1000]
+                                }""", true)
+                );
+    }
+
     @Test
     @Sql("/sql/products.sql")
     void findProducts_ReturnsProductsList() throws Exception {
@@ -44,6 +69,152 @@ class ProductsRestControllerIT {
                 );
     }
 
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_LimitIsLessThanProductsCount_ReturnsFirstPageWithNextLink() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("limit", "2")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.LINK,
+                                "<http://localhost/catalogue-api/products?sort=id&limit=2&after=aWQ6Mg>; rel=\"next\""),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        content().json("""
+                                [
+                                    {"id": 1, "title": "Товар №1", "details": "Описание товара №1"},
+                                    {"id": 2, "title": "ААаа", "details": "аааа"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_CursorIsPassed_ReturnsLastPageWithoutNextLink() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("limit", "2")
+                .param("after", "aWQ6Mg")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        header().doesNotExist(HttpHeaders.LINK),
+                        content().json("""
+                                [
+                                    {"id": 3, "title": "Товар №3", "details": "Описание товара №3"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_SortIsTitle_ReturnsProductsOrderedByTitle() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("sort", "title")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                [
+                                    {"id": 2, "title": "ААаа", "details": "аааа"},
+                                    {"id": 1, "title": "Товар №1", "details": "Описание товара №1"},
+                                    {"id": 3, "title": "Товар №3", "details": "Описание товара №3"}
+                                ]""", true)
+                );
+    }
+
+    @Test
+    void findProducts_CursorIsInvalid_ReturnsBadRequest() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("after", "не курсор")
+                .locale(Locale.of("ru", "RU"))
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON),
+                        content().json("""
+                                {
+                                  "detail": "Некорректный курсор страницы"
+                                }""")
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_FilterContainsWildcards_MatchesThemLiterally() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("filter", "_%")
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("[]", true)
+                );
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Sql("/sql/products.sql")
+    @Sql(statements = "delete from catalogue.t_product", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void streamProducts_AcceptIsNdjson_StreamsProducts() throws Exception {
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("filter", "товар")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        var mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON),
+                        content().string("""
+                                {"id":1,"title":"Товар №1","details":"Описание товара №1"}
+                                {"id":3,"title":"Товар №3","details":"Описание товара №3"}
+                                """)
+                );
+    }
+
+    @Test
+    @Sql("/sql/products.sql")
+    void findProducts_ETagMatches_ReturnsNotModified() throws Exception {
+        var eTag = mockMvc.perform(MockMvcRequestBuilders.get("/catalogue-api/products")
+                        .param("filter", "товар")
+                        .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        var requestBuilder = MockMvcRequestBuilders.get("/catalogue-api/products")
+                .param("filter", "товар")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .with(jwt().jwt(builder -> builder.claim("scope", "view_catalogue")));
+
+        mockMvc.perform(requestBuilder)
+                .andDo(print())
+                .andExpectAll(
+                        status().isNotModified(),
+                        content().string("")
+                );
+    }
+
     @Test
     @Sql("/sql/products.sql")
     void findProducts_UserIsNotAuthorized_ReturnsForbidden() throws Exception {
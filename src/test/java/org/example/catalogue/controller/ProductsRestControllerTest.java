@@ -1,22 +1,43 @@
 package org.example.catalogue.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.controller.payload.ProductLookupResult;
 import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductSearchHit;
+import org.example.catalogue.entity.ProductSuggestion;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.service.InvalidRequestException;
+import org.example.catalogue.service.ProductCursor;
+import org.example.catalogue.service.ProductPage;
+import org.example.catalogue.service.ProductSearchCursor;
+import org.example.catalogue.service.ProductSearchPage;
 import org.example.catalogue.service.ProductService;
+import org.example.catalogue.service.ProductSuggestionIndex;
+import org.example.catalogue.service.ProductSort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.MapBindingResult;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,21 +48,231 @@ class ProductsRestControllerTest {
     @Mock
     ProductService productService;
 
+    @Mock
+    ProductSuggestionIndex productSuggestionIndex;
+
     @InjectMocks
     ProductsRestController controller;
 
     @Test
     void findProduct_ReturnsProductsList() {
         var filter = "товар";
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(new ProductPage(List.of(new ProductView(1, "Первый товар", "Описание первого товара", 0L),
+                new ProductView(2, "Второй товар", "Описание второго товара", 0L)), null))
+                .when(productService).findAllProducts("товар", ProductCursor.first(ProductSort.ID), 50);
+
+        var result = controller.findProducts(filter, "id", null, 50, uriComponentsBuilder);
+
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(new ProductView(1, "Первый товар", "Описание первого товара", 0L),
+                new ProductView(2, "Второй товар", "Описание второго товара", 0L)), result.getBody());
+        assertFalse(result.getHeaders().containsKey(HttpHeaders.LINK));
+        assertNotNull(result.getHeaders().getETag());
+    }
+
+    @Test
+    void findProducts_ProductVersionChanged_ReturnsDifferentETag() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(new ProductPage(List.of(new ProductView(1, "Первый товар", "Описание первого товара", 0L)), null))
+                .doReturn(new ProductPage(List.of(new ProductView(1, "Первый товар", "Новое описание", 1L)), null))
+                .when(productService).findAllProducts(null, ProductCursor.first(ProductSort.ID), 50);
+
+        var first = controller.findProducts(null, "id", null, 50, uriComponentsBuilder);
+        var second = controller.findProducts(null, "id", null, 50, uriComponentsBuilder);
+
+        assertNotEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    }
+
+    @Test
+    void findProducts_NextPageExists_ReturnsNextPageLink() {
+        var cursor = new ProductCursor(ProductSort.TITLE, 2, "Второй товар");
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(new ProductPage(List.of(new ProductView(1, "Первый товар", "Описание первого товара", 0L),
+                new ProductView(2, "Второй товар", "Описание второго товара", 0L)), cursor))
+                .when(productService).findAllProducts(null, ProductCursor.first(ProductSort.TITLE), 2);
+
+        var result = controller.findProducts(null, "title", null, 2, uriComponentsBuilder);
+
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("<http://localhost/catalogue-api/products?sort=title&limit=2&after=%s>; rel=\"next\""
+                .formatted(cursor.encode()), result.getHeaders().getFirst(HttpHeaders.LINK));
+    }
+
+    @Test
+    void findProducts_CursorIsPassed_ReturnsPageAfterCursor() {
+        var cursor = new ProductCursor(ProductSort.ID, 2, null);
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(new ProductPage(List.of(new ProductView(3, "Третий товар", "Описание третьего товара", 0L)), null))
+                .when(productService).findAllProducts(null, cursor, 2);
+
+        var result = controller.findProducts(null, "id", cursor.encode(), 2, uriComponentsBuilder);
+
+        assertNotNull(result);
+        assertEquals(List.of(new ProductView(3, "Третий товар", "Описание третьего товара", 0L)), result.getBody());
+    }
+
+    @Test
+    void findProducts_LimitIsInvalid_ThrowsInvalidRequestException() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.findProducts(null, "id", null, 0, uriComponentsBuilder));
+
+        assertEquals("catalogue.products.errors.limit_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void findProducts_CursorDoesNotMatchSort_ThrowsInvalidRequestException() {
+        var after = new ProductCursor(ProductSort.ID, 2, null).encode();
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.findProducts(null, "title", after, 50, uriComponentsBuilder));
+
+        assertEquals("catalogue.products.errors.cursor_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void findProducts_CursorIsMalformed_ThrowsInvalidRequestException() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.findProducts(null, "id", "!!!", 50, uriComponentsBuilder));
+
+        assertEquals("catalogue.products.errors.cursor_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
 
-        doReturn(List.of(new Product(1, "Первый товар", "Описание первого товара"),
-                new Product(2, "Второй товар", "Описание второго товара")))
-                .when(productService).findAllProducts("товар");
+    @Test
+    void searchProducts_NextPageExists_ReturnsHitsAndNextPageLink() {
+        var hit = new ProductSearchHit(1, "Товар №1", "Описание товара №1", 0.5f,
+                "<mark>Товар</mark> №1", "Описание <mark>товара</mark> №1");
+        var next = ProductSearchCursor.after(hit);
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(new ProductSearchPage(List.of(hit), next))
+                .when(productService).searchProducts("товары", ProductSearchCursor.first(), 1);
+
+        var result = controller.searchProducts("товары", null, 1, uriComponentsBuilder);
+
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(hit), result.getBody());
+        assertEquals("<http://localhost/catalogue-api/products/search?q=%D1%82%D0%BE%D0%B2%D0%B0%D1%80%D1%8B&limit=1&after=%s>; rel=\"next\""
+                .formatted(next.encode()), result.getHeaders().getFirst(HttpHeaders.LINK));
+    }
+
+    @Test
+    void searchProducts_CursorIsPassed_ReturnsHitsAfterCursor() {
+        var cursor = new ProductSearchCursor(0.5f, 1);
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        doReturn(new ProductSearchPage(List.of(), null))
+                .when(productService).searchProducts("товары", cursor, 20);
+
+        var result = controller.searchProducts("товары", cursor.encode(), 20, uriComponentsBuilder);
+
+        assertEquals(List.of(), result.getBody());
+        assertFalse(result.getHeaders().containsKey(HttpHeaders.LINK));
+    }
+
+    @Test
+    void searchProducts_QueryIsBlank_ThrowsInvalidRequestException() {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString("http://localhost");
+
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.searchProducts("  ", null, 20, uriComponentsBuilder));
+
+        assertEquals("catalogue.products.errors.query_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void findProductsByIds_SomeProductsAreMissing_ReturnsProductsInRequestOrderAndMissingIds() {
+        var products = new LinkedHashMap<Integer, ProductView>();
+        products.put(3, new ProductView(3, "Товар №3", "Описание товара №3", 0L));
+        products.put(1, new ProductView(1, "Товар №1", "Описание товара №1", 0L));
+        doReturn(products).when(productService).findProducts(Set.of(3, 1000, 1));
+
+        var result = controller.findProductsByIds(List.of(3, 1000, 1, 3));
+
+        assertEquals(new ProductLookupResult(List.of(new ProductView(3, "Товар №3", "Описание товара №3", 0L),
+                new ProductView(1, "Товар №1", "Описание товара №1", 0L)), List.of(1000)), result);
+    }
+
+    @Test
+    void findProductsByIds_TooManyIds_ThrowsInvalidRequestException() {
+        var ids = IntStream.rangeClosed(1, 501).boxed().toList();
+
+        var exception = assertThrows(InvalidRequestException.class, () -> controller.findProductsByIds(ids));
+
+        assertEquals("catalogue.products.errors.ids_size_is_invalid", exception.getMessage());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void suggestProducts_ReturnsSuggestionsFromIndex() {
+        doReturn(List.of(new ProductSuggestion(1, "Товар №1"), new ProductSuggestion(3, "Товар №3")))
+                .when(productSuggestionIndex).suggest("тов", 10);
+
+        var result = controller.suggestProducts("тов", 10);
+
+        assertEquals(List.of(new ProductSuggestion(1, "Товар №1"), new ProductSuggestion(3, "Товар №3")), result);
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void suggestProducts_PrefixIsBlank_ThrowsInvalidRequestException() {
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.suggestProducts(" ", 10));
+
+        assertEquals("catalogue.products.errors.prefix_is_invalid", exception.getMessage());
+        verifyNoInteractions(productSuggestionIndex);
+    }
+
+    @Test
+    void suggestProducts_LimitIsInvalid_ThrowsInvalidRequestException() {
+        var exception = assertThrows(InvalidRequestException.class,
+                () -> controller.suggestProducts("тов", 51));
+
+        assertEquals("catalogue.products.errors.suggestion_limit_is_invalid", exception.getMessage());
+        verifyNoInteractions(productSuggestionIndex);
+    }
+
+    @Test
+    void streamProducts_ReturnsNewlineDelimitedJson() throws IOException {
+        var controller = new ProductsRestController(productService, new ObjectMapper(),
+                productSuggestionIndex);
+
+        doAnswer(invocation -> {
+            Consumer<ProductView> consumer = invocation.getArgument(1);
+            consumer.accept(new ProductView(1, "Первый товар", "Описание первого товара", 0L));
+            consumer.accept(new ProductView(2, "Второй товар", null, 0L));
+            return null;
+        }).when(productService).processAllProducts(eq("товар"), any());
+
+        var result = controller.streamProducts("товар");
+
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, result.getHeaders().getContentType());
 
-        var result = controller.findProducts(filter);
+        var outputStream = new ByteArrayOutputStream();
+        result.getBody().writeTo(outputStream);
 
-        assertEquals(List.of(new Product(1, "Первый товар", "Описание первого товара"),
-                new Product(2, "Второй товар", "Описание второго товара")), result);
+        assertEquals("""
+                {"id":1,"title":"Первый товар","details":"Описание первого товара"}
+                {"id":2,"title":"Второй товар","details":null}
+                """, outputStream.toString(StandardCharsets.UTF_8));
     }
 
     @Test
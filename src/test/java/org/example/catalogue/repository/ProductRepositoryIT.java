@@ -1,6 +1,8 @@
 package org.example.catalogue.repository;
 
 import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductSearchHit;
+import org.example.catalogue.entity.ProductView;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -9,6 +11,8 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,12 +25,141 @@ class ProductRepositoryIT {
     ProductRepository productRepository;
 
     @Test
-    void findAllByTitleLikeIgnoreCase_ReturnsFilteredProductsList() throws Exception {
+    void findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById_ReturnsFilteredProductsList() throws Exception {
         var filter = "%товар%";
 
-        var products = productRepository.findAllByTitleLikeIgnoreCase(filter);
+        var products = productRepository.findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(filter,
+                Integer.MIN_VALUE, 10);
 
-        assertEquals(List.of(new Product(1, "Товар №1", "Описание товара №1"),
-                new Product(3, "Товар №3", "Описание товара №3")), products);
+        assertEquals(List.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L),
+                new ProductView(3, "Товар №3", "Описание товара №3", 0L)), products);
+    }
+
+    @Test
+    void findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById_WildcardIsEscaped_ReturnsEmptyList() {
+        var filter = "%\\%%";
+
+        var products = productRepository.findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById(filter,
+                Integer.MIN_VALUE, 10);
+
+        assertEquals(List.of(), products);
+    }
+
+    @Test
+    void findAllViewsAfterIdOrderById_ReturnsProductsAfterCursor() {
+        var products = productRepository.findAllViewsAfterIdOrderById(1, 1);
+
+        assertEquals(List.of(new ProductView(2, "ААаа", "аааа", 0L)), products);
+    }
+
+    @Test
+    void findAllViewsByIdIn_ReturnsExistingProducts() {
+        var products = productRepository.findAllViewsByIdIn(List.of(3, 1000, 1));
+
+        assertEquals(Set.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L),
+                new ProductView(3, "Товар №3", "Описание товара №3", 0L)), Set.copyOf(products));
+    }
+
+    @Test
+    void findAllViewsAfterTitleOrderByTitle_ReturnsProductsAfterCursor() {
+        var products = productRepository.findAllViewsAfterTitleOrderByTitle("ААаа", 2, 10);
+
+        assertEquals(List.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L),
+                new ProductView(3, "Товар №3", "Описание товара №3", 0L)), products);
+    }
+
+    @Test
+    void findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById_ReturnsFilteredProductsAfterCursor() {
+        var products = productRepository.findAllViewsByTitleLikeIgnoreCaseAfterIdOrderById("%товар%", 1, 10);
+
+        assertEquals(List.of(new ProductView(3, "Товар №3", "Описание товара №3", 0L)), products);
+    }
+
+    @Test
+    void findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle_ReturnsFilteredProductsAfterCursor() {
+        var products = productRepository.findAllViewsByTitleLikeIgnoreCaseAfterTitleOrderByTitle("%товар%",
+                "Товар №1", 1, 10);
+
+        assertEquals(List.of(new ProductView(3, "Товар №3", "Описание товара №3", 0L)), products);
+    }
+
+    @Test
+    void findViewById_ProductExists_ReturnsProduct() {
+        assertEquals(Optional.of(new ProductView(2, "ААаа", "аааа", 0L)), productRepository.findViewById(2));
+    }
+
+    @Test
+    void findViewById_ProductDoesNotExist_ReturnsEmptyOptional() {
+        assertEquals(Optional.empty(), productRepository.findViewById(4));
+    }
+
+    @Test
+    void streamAllViewsOrderById_ReturnsAllProducts() {
+        try (var products = productRepository.streamAllViewsOrderById()) {
+            assertEquals(List.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L),
+                    new ProductView(2, "ААаа", "аааа", 0L),
+                    new ProductView(3, "Товар №3", "Описание товара №3", 0L)), products.toList());
+        }
+    }
+
+    @Test
+    void streamAllViewsByTitleLikeIgnoreCaseOrderById_ReturnsFilteredProducts() {
+        try (var products = productRepository.streamAllViewsByTitleLikeIgnoreCaseOrderById("%товар%")) {
+            assertEquals(List.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L),
+                    new ProductView(3, "Товар №3", "Описание товара №3", 0L)), products.toList());
+        }
+    }
+
+    @Test
+    void searchAfterRankOrderByRank_ReturnsMatchingProductsWithHighlights() {
+        var hits = productRepository.searchAfterRankOrderByRank("товары", Float.MAX_VALUE, Integer.MIN_VALUE, 10);
+
+        assertEquals(List.of(1, 3), hits.stream().map(ProductSearchHit::id).toList());
+        assertEquals("<mark>Товар</mark> №1", hits.get(0).titleHighlight());
+        assertEquals("Описание <mark>товара</mark> №1", hits.get(0).detailsHighlight());
+        assertTrue(hits.get(0).rank() > 0);
+    }
+
+    @Test
+    void searchAfterRankOrderByRank_ReturnsProductsAfterCursor() {
+        var first = productRepository.searchAfterRankOrderByRank("товары", Float.MAX_VALUE, Integer.MIN_VALUE, 1);
+
+        var hits = productRepository.searchAfterRankOrderByRank("товары", first.get(0).rank(), first.get(0).id(), 10);
+
+        assertEquals(List.of(3), hits.stream().map(ProductSearchHit::id).toList());
+    }
+
+    @Test
+    void searchAfterRankOrderByRank_QueryMatchesNothing_ReturnsEmptyList() {
+        var hits = productRepository.searchAfterRankOrderByRank("несуществующий", Float.MAX_VALUE,
+                Integer.MIN_VALUE, 10);
+
+        assertEquals(List.of(), hits);
+    }
+
+    @Test
+    void updateTitleAndDetailsById_ProductExists_UpdatesProductAndIncrementsVersion() {
+        var updated = productRepository.updateTitleAndDetailsById(1, "Новое название", "Новое описание");
+
+        assertEquals(1, updated);
+        var product = productRepository.findById(1).orElseThrow();
+        assertEquals(new Product(1, "Новое название", "Новое описание"), product);
+        assertEquals(1L, product.getVersion());
+    }
+
+    @Test
+    void updateTitleAndDetailsById_ProductDoesNotExist_ReturnsZero() {
+        assertEquals(0, productRepository.updateTitleAndDetailsById(4, "Новое название", "Новое описание"));
+    }
+
+    @Test
+    void deleteProductById_ProductExists_ReturnsOne() {
+        assertEquals(1, productRepository.deleteProductById(1));
+        assertTrue(productRepository.findById(1).isEmpty());
+    }
+
+    @Test
+    void deleteProductById_ProductDoesNotExist_ReturnsZero() {
+        assertEquals(0, productRepository.deleteProductById(4));
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package org.example.catalogue.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class ReplicaDataSourceTest {
+    DataSource primary = mock();
+
+    @AfterEach
+    void clearPrimaryRequired() {
+        ReplicaDataSource.setPrimaryRequired(false);
+    }
+
+    @Test
+    void select_ReplicasAreNotChecked_ReturnsPrimary() {
+        var dataSource = new ReplicaDataSource(primary, Map.of("replica-0", mock(DataSource.class)),
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        assertSame(primary, dataSource.select());
+    }
+
+    @Test
+    void select_ReplicasAreInSync_AlternatesBetweenReplicas() throws SQLException {
+        var first = replica(0);
+        var second = replica(1);
+        var dataSource = new ReplicaDataSource(primary, replicas(first, second), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        dataSource.checkReplicas();
+
+        assertSame(first, dataSource.select());
+        assertSame(second, dataSource.select());
+        assertSame(first, dataSource.select());
+    }
+
+    @Test
+    void select_ReplicaLagsTooFarBehind_SkipsReplica() throws SQLException {
+        var lagging = replica(30);
+        var inSync = replica(0);
+        var dataSource = new ReplicaDataSource(primary, replicas(lagging, inSync), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        dataSource.checkReplicas();
+
+        assertSame(inSync, dataSource.select());
+        assertSame(inSync, dataSource.select());
+        assertEquals(ReplicaDataSource.LAGGING, dataSource.healthIndicators().get("replica-0").health().getStatus());
+        assertEquals(Status.UP, dataSource.healthIndicators().get("replica-1").health().getStatus());
+    }
+
+    @Test
+    void select_ReplicaIsUnreachable_ReturnsPrimary() throws SQLException {
+        DataSource unreachable = mock();
+        doThrow(new SQLException("Connection refused")).when(unreachable).getConnection();
+        var dataSource = new ReplicaDataSource(primary, Map.of("replica-0", unreachable),
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        dataSource.checkReplicas();
+
+        assertSame(primary, dataSource.select());
+        assertEquals(ReplicaDataSource.UNREACHABLE,
+                dataSource.healthIndicators().get("replica-0").health().getStatus());
+    }
+
+    @Test
+    void select_PrimaryRequired_ReturnsPrimary() throws SQLException {
+        var dataSource = new ReplicaDataSource(primary, replicas(replica(0)), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        dataSource.checkReplicas();
+        ReplicaDataSource.setPrimaryRequired(true);
+
+        assertSame(primary, dataSource.select());
+    }
+
+    @Test
+    void onPrimary_SelectsPrimaryAndRestoresRouting() throws SQLException {
+        var replica = replica(0);
+        var dataSource = new ReplicaDataSource(primary, replicas(replica), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        dataSource.checkReplicas();
+
+        assertSame(primary, ReplicaDataSource.onPrimary(dataSource::select));
+        assertSame(replica, dataSource.select());
+    }
+
+    @Test
+    void onPrimary_PrimaryAlreadyRequired_KeepsPrimaryRequired() {
+        ReplicaDataSource.setPrimaryRequired(true);
+
+        ReplicaDataSource.onPrimary(() -> null);
+
+        assertTrue(ReplicaDataSource.isPrimaryRequired());
+    }
+
+    private static DataSource replica(double lagSeconds) throws SQLException {
+        DataSource dataSource = mock();
+        Connection connection = mock();
+        Statement statement = mock();
+        ResultSet resultSet = mock();
+        doReturn(connection).when(dataSource).getConnection();
+        doReturn(statement).when(connection).createStatement();
+        doReturn(resultSet).when(statement).executeQuery(anyString());
+        doReturn(true).when(resultSet).next();
+        doReturn(lagSeconds).when(resultSet).getDouble(1);
+        return dataSource;
+    }
+
+    private static Map<String, DataSource> replicas(DataSource... dataSources) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < dataSources.length; i++) {
+            replicas.put("replica-" + i, dataSources[i]);
+        }
+        return replicas;
+    }
+}
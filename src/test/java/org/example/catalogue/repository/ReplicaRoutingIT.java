@@ -0,0 +1,159 @@
+package org.example.catalogue.repository;
+
+import org.example.catalogue.entity.ProductView;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "catalogue.replicas.urls=" + ReplicaRoutingIT.REPLICA_URL,
+        "catalogue.replicas.check-interval=PT0.1S",
+        "catalogue.replicas.read-your-writes-window=1m",
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=products"
+})
+@AutoConfigureMockMvc
+@Sql(statements = "insert into catalogue.t_product (id, c_title, c_details) values (1000, 'Товар на основной базе', null)")
+@Sql(statements = "delete from catalogue.t_product where id = 1000", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReplicaRoutingIT {
+    static final String REPLICA_URL = "jdbc:tc:postgresql:16:///replica?TC_DAEMON=true";
+
+    static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "user", "password"));
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replica.getDataSource())
+                .schemas("public", "catalogue")
+                .load()
+                .migrate();
+        replica.update("insert into catalogue.t_product (id, c_title, c_details) values (1000, 'Товар на реплике', null)");
+    }
+
+    @AfterAll
+    static void cleanUpReplica() {
+        replica.update("delete from catalogue.t_product where id = 1000");
+    }
+
+    @AfterEach
+    void clearCache() {
+        cacheManager.getCache("products").clear();
+    }
+
+    @Test
+    void findProducts_ClientDidNotWrite_ReadsFromReplica() throws Exception {
+        awaitReplicaUp();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalogue-api/products")
+                        .param("filter", "товар")
+                        .with(jwt().jwt(builder -> builder.subject("reader").claim("scope", "view_catalogue"))))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                [{"id": 1000, "title": "Товар на реплике"}]""")
+                );
+    }
+
+    @Test
+    void findProducts_ClientUpdatedProduct_ReadsOwnWriteFromPrimary() throws Exception {
+        awaitReplicaUp();
+
+        updateProduct("writer");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalogue-api/products")
+                        .param("filter", "товар")
+                        .with(jwt().jwt(builder -> builder.subject("writer").claim("scope", "view_catalogue"))))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                [{"id": 1000, "title": "Изменённый товар"}]""")
+                );
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalogue-api/products")
+                        .param("filter", "товар")
+                        .with(jwt().jwt(builder -> builder.subject("reader").claim("scope", "view_catalogue"))))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                [{"id": 1000, "title": "Товар на реплике"}]""")
+                );
+    }
+
+    @Test
+    void findProduct_CacheWasEvictedAndReplicaLags_RepopulatesCacheFromPrimary() throws Exception {
+        awaitReplicaUp();
+
+        updateProduct("writer");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalogue-api/products/1000")
+                        .with(jwt().jwt(builder -> builder.subject("reader").claim("scope", "view_catalogue"))))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                {"id": 1000, "title": "Изменённый товар"}""")
+                );
+        assertEquals("Изменённый товар", cacheManager.getCache("products").get(1000, ProductView.class).title());
+    }
+
+    @Test
+    void findProductsByIds_ReplicaLags_CachesProductsFromPrimary() throws Exception {
+        awaitReplicaUp();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/catalogue-api/products")
+                        .param("ids", "1000")
+                        .with(jwt().jwt(builder -> builder.subject("reader").claim("scope", "view_catalogue"))))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json("""
+                                {"products": [{"id": 1000, "title": "Товар на основной базе"}], "missing": []}""")
+                );
+        assertEquals("Товар на основной базе",
+                cacheManager.getCache("products").get(1000, ProductView.class).title());
+    }
+
+    private void updateProduct(String subject) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/catalogue-api/products/1000")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "Изменённый товар", "details": null}""")
+                        .with(jwt().jwt(builder -> builder.subject(subject).claim("scope", "edit_catalogue"))))
+                .andExpect(status().isNoContent());
+    }
+
+    private void awaitReplicaUp() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!Status.UP.equals(replicaDataSource.healthIndicators().get("replica-0").health().getStatus())) {
+            assertTrue(System.nanoTime() < deadline, "Replica did not become available in time");
+            Thread.sleep(50);
+        }
+    }
+}
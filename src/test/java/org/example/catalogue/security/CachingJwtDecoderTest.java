@@ -0,0 +1,81 @@
+package org.example.catalogue.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Mock
+    JwtDecoder delegate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CachingJwtDecoder decoder() {
+        return new CachingJwtDecoder(delegate, 100, Duration.ofSeconds(30), meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(NOW.minusSeconds(60))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    void decode_SameTokenTwice_ValidatesOnce() {
+        var jwt = jwt(NOW.plusSeconds(300));
+        doReturn(jwt).when(delegate).decode("token");
+        var decoder = decoder();
+
+        assertSame(jwt, decoder.decode("token"));
+        assertSame(jwt, decoder.decode("token"));
+
+        verify(delegate).decode("token");
+        assertEquals(1, meterRegistry.get("catalogue.security.jwt.decode").tag("cache", "hit").timer().count());
+        assertEquals(1, meterRegistry.get("catalogue.security.jwt.decode").tag("cache", "miss").timer().count());
+    }
+
+    @Test
+    void decode_TokenExpiresWithinSkew_IsNotCached() {
+        var jwt = jwt(NOW.plusSeconds(10));
+        doReturn(jwt).when(delegate).decode("token");
+        var decoder = decoder();
+
+        decoder.decode("token");
+        decoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void decode_InvalidToken_IsNotCached() {
+        doThrow(new BadJwtException("invalid")).when(delegate).decode("token");
+        var decoder = decoder();
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("token"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("token"));
+
+        verify(delegate, times(2)).decode("token");
+        assertEquals(2, meterRegistry.get("catalogue.security.jwt.decode").tag("cache", "miss").timer().count());
+    }
+}
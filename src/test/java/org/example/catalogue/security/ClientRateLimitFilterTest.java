@@ -0,0 +1,92 @@
+package org.example.catalogue.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ClientRateLimitFilterTest {
+    ClientRateLimiter readLimiter = mock();
+
+    ClientRateLimiter writeLimiter = mock();
+
+    StaticMessageSource messageSource = new StaticMessageSource();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ClientRateLimitFilter filter = new ClientRateLimitFilter(readLimiter, writeLimiter, messageSource,
+            new ObjectMapper(), meterRegistry);
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ReadWithinBudget_InvokesChain() throws Exception {
+        authenticate(Jwt.withTokenValue("token").header("alg", "none").subject("user").build());
+        doReturn(Duration.ZERO).when(readLimiter).tryAcquire("user");
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/catalogue-api/products"),
+                new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(writeLimiter);
+    }
+
+    @Test
+    void doFilter_WriteBudgetIsExhausted_ReturnsTooManyRequests() throws Exception {
+        authenticate(Jwt.withTokenValue("token").header("alg", "none").subject("service-account")
+                .claim("client_id", "integration").build());
+        doReturn(Duration.ofMillis(1500)).when(writeLimiter).tryAcquire("integration");
+        messageSource.addMessage("catalogue.errors.rate_limit.client_limit_exceeded", Locale.ENGLISH,
+                "Превышен лимит запросов клиента");
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("PATCH", "/catalogue-api/products/1"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(MediaType.APPLICATION_PROBLEM_JSON_VALUE, response.getContentType());
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8)
+                .contains("\"detail\":\"Превышен лимит запросов клиента\""));
+        assertEquals(1, meterRegistry.get("catalogue.security.rate-limit.rejected")
+                .tag("class", "write").counter().count());
+        verifyNoInteractions(readLimiter);
+    }
+
+    @Test
+    void doFilter_RequestIsAnonymous_InvokesChain() throws Exception {
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/catalogue-api/products"),
+                new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(readLimiter, writeLimiter);
+    }
+
+    private static void authenticate(Jwt jwt) {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.catalogue.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+    AtomicLong nanoTime = new AtomicLong(Long.MAX_VALUE - Duration.ofSeconds(1).toNanos());
+
+    ClientRateLimiter limiter = new ClientRateLimiter(10, 3, nanoTime::get);
+
+    @Test
+    void tryAcquire_WithinBurst_AllowsRequests() {
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tryAcquire_BurstIsExhausted_ReturnsTimeUntilNextPermit() {
+        limiter.tryAcquire("client");
+        limiter.tryAcquire("client");
+        limiter.tryAcquire("client");
+
+        assertEquals(Duration.ofMillis(100), limiter.tryAcquire("client"));
+
+        nanoTime.addAndGet(Duration.ofMillis(100).toNanos());
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+        assertEquals(Duration.ofMillis(100), limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tryAcquire_AnotherClientExhaustedBurst_AllowsRequests() {
+        limiter.tryAcquire("noisy-client");
+        limiter.tryAcquire("noisy-client");
+        limiter.tryAcquire("noisy-client");
+
+        assertFalse(limiter.tryAcquire("noisy-client").isZero());
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.ProductView;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CoalescingProductServiceTest {
+    ProductService delegate = mock();
+
+    CoalescingProductService service = new CoalescingProductService(delegate, Duration.ofMillis(50));
+
+    @Test
+    void findProduct_DelegatesLookupWithoutCoalescing() {
+        doReturn(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)))
+                .when(delegate).findProduct(1);
+
+        assertEquals(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)), service.findProduct(1));
+    }
+
+    @Test
+    void findAllProducts_InFlightLookupTimesOut_ThrowsServiceUnavailableException() throws Exception {
+        var cursor = ProductCursor.first(ProductSort.ID);
+        var page = new ProductPage(List.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)), null);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return page;
+        }).when(delegate).findAllProducts(null, cursor, 10);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> service.findAllProducts(null, cursor, 10));
+            started.await();
+
+            var exception = assertThrows(ServiceUnavailableException.class,
+                    () -> service.findAllProducts(null, cursor, 10));
+
+            assertEquals("catalogue.errors.product.lookup_timeout", exception.getMessage());
+            release.countDown();
+            assertEquals(page, leader.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).findAllProducts(null, cursor, 10);
+    }
+}
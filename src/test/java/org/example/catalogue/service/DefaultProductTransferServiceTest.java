@@ -0,0 +1,82 @@
+package org.example.catalogue.service;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class DefaultProductTransferServiceTest {
+    DataSource dataSource = mock();
+
+    JdbcTemplate jdbcTemplate = mock();
+
+    CopyManager copyManager = mock();
+
+    DefaultProductTransferService service = new DefaultProductTransferService(dataSource, jdbcTemplate,
+            mock(CacheManager.class), mock(ApplicationEventPublisher.class));
+
+    @Test
+    void validRowRules_MatchNewProductPayloadConstraints() throws Exception {
+        var title = NewProductPayload.class.getDeclaredField("title");
+        var details = NewProductPayload.class.getDeclaredField("details");
+
+        assertNotNull(title.getAnnotation(NotNull.class));
+        assertEquals(DefaultProductTransferService.TITLE_MIN_LENGTH, title.getAnnotation(Size.class).min());
+        assertEquals(DefaultProductTransferService.TITLE_MAX_LENGTH, title.getAnnotation(Size.class).max());
+        assertNull(details.getAnnotation(NotNull.class));
+        assertEquals(DefaultProductTransferService.DETAILS_MAX_LENGTH, details.getAnnotation(Size.class).max());
+    }
+
+    @Test
+    void importProducts_CsvIsMalformed_ThrowsInvalidRequestException() throws Exception {
+        var input = prepareCopy(new SQLException("missing data for column \"c_title\"", "22P04"));
+
+        var exception = assertThrows(InvalidRequestException.class, () -> service.importProducts(input, 10));
+
+        assertEquals("catalogue.products.import.errors.csv_is_invalid", exception.getMessage());
+    }
+
+    @Test
+    void importProducts_ValueIsInvalid_ThrowsInvalidRequestException() throws Exception {
+        var input = prepareCopy(new SQLException("invalid input syntax for type integer", "22P02"));
+
+        assertThrows(InvalidRequestException.class, () -> service.importProducts(input, 10));
+    }
+
+    @Test
+    void importProducts_ServerFails_ThrowsTranslatedException() throws Exception {
+        var input = prepareCopy(new SQLException("terminating connection due to administrator command", "57P01"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> service.importProducts(input, 10));
+    }
+
+    private InputStream prepareCopy(SQLException failure) throws Exception {
+        var input = new ByteArrayInputStream("id,title,details\n".getBytes());
+        Connection connection = mock();
+        PGConnection pgConnection = mock();
+        doReturn(connection).when(dataSource).getConnection();
+        doReturn(pgConnection).when(connection).unwrap(PGConnection.class);
+        doReturn(copyManager).when(pgConnection).getCopyAPI();
+        doThrow(failure).when(copyManager).copyIn(anyString(), any(InputStream.class));
+        doReturn(new SQLStateSQLExceptionTranslator()).when(jdbcTemplate).getExceptionTranslator();
+        return input;
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.catalogue.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.catalogue.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GroupCommittingProductServiceTest {
+    ProductService delegate = mock();
+
+    GroupCommittingProductService service = new GroupCommittingProductService(delegate, Duration.ofMillis(200),
+            2, 10, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+    @AfterEach
+    void stopService() {
+        if (service.isRunning()) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void createProduct_ConcurrentCreates_CommitsThemInOneBatch() throws Exception {
+        doAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            return List.of(new Product(1, products.get(0).getTitle(), products.get(0).getDetails()),
+                    new Product(2, products.get(1).getTitle(), products.get(1).getDetails()));
+        }).when(delegate).createProducts(anyList());
+        service.start();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Product> first = executor.submit(() -> service.createProduct("Товар №1", "Описание товара №1"));
+            Future<Product> second = executor.submit(() -> service.createProduct("Товар №2", "Описание товара №2"));
+
+            assertEquals("Товар №1", first.get(5, TimeUnit.SECONDS).getTitle());
+            assertEquals("Товар №2", second.get(5, TimeUnit.SECONDS).getTitle());
+        }
+        verify(delegate).createProducts(anyList());
+        verify(delegate, never()).createProduct(any(), any());
+    }
+
+    @Test
+    void commit_BatchFails_CreatesProductsOneByOneIsolatingFailures() {
+        var failing = new GroupCommittingProductService.PendingProduct("Товар №1", null, new CompletableFuture<>());
+        var succeeding = new GroupCommittingProductService.PendingProduct("Товар №2", null, new CompletableFuture<>());
+        doThrow(new DataIntegrityViolationException("Ошибка")).when(delegate).createProducts(anyList());
+        doThrow(new DataIntegrityViolationException("Ошибка")).when(delegate).createProduct("Товар №1", null);
+        doReturn(new Product(2, "Товар №2", null)).when(delegate).createProduct("Товар №2", null);
+
+        service.commit(List.of(failing, succeeding));
+
+        assertTrue(failing.result().isCompletedExceptionally());
+        assertEquals(new Product(2, "Товар №2", null), succeeding.result().join());
+    }
+
+    @Test
+    void createProduct_ServiceIsNotRunning_CreatesProductDirectly() {
+        doReturn(new Product(1, "Товар №1", null)).when(delegate).createProduct("Товар №1", null);
+
+        assertEquals(new Product(1, "Товар №1", null), service.createProduct("Товар №1", null));
+        verify(delegate, never()).createProducts(anyList());
+    }
+
+    @Test
+    void createProduct_CommitIsStuck_FallsBackOrReportsServiceUnavailable() throws Exception {
+        var service = new GroupCommittingProductService(delegate, Duration.ZERO, 2, 10, Duration.ofMillis(100),
+                new SimpleMeterRegistry());
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new Product(1, "Товар №1", null);
+        }).when(delegate).createProduct("Товар №1", null);
+        doReturn(new Product(2, "Товар №2", null)).when(delegate).createProduct("Товар №2", null);
+        service.start();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Product> stuck = executor.submit(() -> service.createProduct("Товар №1", null));
+            started.await();
+
+            assertEquals(new Product(2, "Товар №2", null), service.createProduct("Товар №2", null));
+            var exception = assertThrows(ExecutionException.class, () -> stuck.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ServiceUnavailableException.class, exception.getCause());
+            release.countDown();
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void createProduct_CommitThrowsError_FailsCallerAndKeepsCommitting() {
+        doThrow(new StackOverflowError()).when(delegate).createProduct("Товар №1", null);
+        doReturn(new Product(2, "Товар №2", null)).when(delegate).createProduct("Товар №2", null);
+        service.start();
+
+        assertThrows(StackOverflowError.class, () -> service.createProduct("Товар №1", null));
+        assertEquals(new Product(2, "Товар №2", null), service.createProduct("Товар №2", null));
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=products",
+        "spring.cache.caffeine.spec=maximumSize=100,recordStats"
+})
+class ProductCacheIT {
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @MockBean
+    ProductRepository productRepository;
+
+    @AfterEach
+    void clearCache() {
+        cacheManager.getCache("products").clear();
+    }
+
+    @Test
+    void findProduct_CalledTwice_QueriesRepositoryOnce() {
+        doReturn(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)))
+                .when(productRepository).findViewById(1);
+
+        assertEquals(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)), productService.findProduct(1));
+        assertEquals(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)), productService.findProduct(1));
+
+        verify(productRepository, times(1)).findViewById(1);
+    }
+
+    @Test
+    void findProduct_ProductDoesNotExist_CachesMissingProduct() {
+        doReturn(Optional.empty()).when(productRepository).findViewById(1);
+
+        assertEquals(Optional.empty(), productService.findProduct(1));
+        assertEquals(Optional.empty(), productService.findProduct(1));
+
+        verify(productRepository, times(1)).findViewById(1);
+    }
+
+    @Test
+    void findProduct_ConcurrentMisses_QueryRepositoryOnce() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L));
+        }).when(productRepository).findViewById(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = executor.submit(() -> productService.findProduct(1));
+            started.await();
+            var second = executor.submit(() -> productService.findProduct(1));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)),
+                    first.get(5, TimeUnit.SECONDS));
+            assertEquals(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)),
+                    second.get(5, TimeUnit.SECONDS));
+        }
+        verify(productRepository, times(1)).findViewById(1);
+    }
+
+    @Test
+    void findProducts_SomeProductsAreCached_QueriesOnlyMisses() {
+        doReturn(Optional.of(new ProductView(2, "Товар №2", "Описание товара №2", 0L)))
+                .when(productRepository).findViewById(2);
+        doReturn(List.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)))
+                .when(productRepository).findAllViewsByIdIn(List.of(3, 1));
+
+        productService.findProduct(2);
+        var products = productService.findProducts(List.of(3, 2, 1));
+
+        assertEquals(List.of(2, 1), List.copyOf(products.keySet()));
+        assertEquals(new ProductView(2, "Товар №2", "Описание товара №2", 0L), products.get(2));
+        assertEquals(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)),
+                productService.findProduct(1));
+        verify(productRepository, never()).findViewById(1);
+    }
+
+    @Test
+    void createProduct_ReplacesMissingProductEntry() {
+        doReturn(Optional.empty()).when(productRepository).findViewById(1);
+        doReturn(new Product(1, "Новый товар", "Описание нового товара"))
+                .when(productRepository).save(new Product(null, "Новый товар", "Описание нового товара"));
+
+        productService.findProduct(1);
+        productService.createProduct("Новый товар", "Описание нового товара");
+
+        assertEquals(Optional.of(new ProductView(1, "Новый товар", "Описание нового товара", null)),
+                productService.findProduct(1));
+        verify(productRepository, times(1)).findViewById(1);
+    }
+
+    @Test
+    void updateProduct_EvictsCachedProduct() {
+        doReturn(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)))
+                .when(productRepository).findViewById(1);
+        doReturn(1).when(productRepository).updateTitleAndDetailsById(1, "Новое название", "Новое описание");
+
+        productService.findProduct(1);
+        productService.updateProduct(1, "Новое название", "Новое описание");
+        productService.findProduct(1);
+
+        verify(productRepository, times(2)).findViewById(1);
+    }
+
+    @Test
+    void deleteProduct_EvictsCachedProduct() {
+        doReturn(Optional.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L)))
+                .when(productRepository).findViewById(1);
+        doReturn(1).when(productRepository).deleteProductById(1);
+
+        productService.findProduct(1);
+        productService.deleteProduct(1);
+        productService.findProduct(1);
+
+        verify(productRepository, times(2)).findViewById(1);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.ProductSuggestion;
+import org.example.catalogue.entity.ProductView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=products",
+        "catalogue.change-notifications.enabled=true",
+        "catalogue.change-notifications.poll-timeout=100ms"
+})
+class ProductChangeNotificationListenerIT {
+    static final JdbcTemplate anotherNode = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:tc:postgresql:16:///app?TC_DAEMON=true", "user", "password"));
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ProductSuggestionIndex productSuggestionIndex;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from catalogue.t_product where id in (1000, 1001)");
+    }
+
+    @Test
+    void productUpdatedByAnotherNode_EvictsCachedProductAndUpdatesSuggestions() throws Exception {
+        jdbcTemplate.update("insert into catalogue.t_product (id, c_title, c_details) values (1000, 'Товар', null)");
+        cacheManager.getCache("products").put(1000, new ProductView(1000, "Товар", null, 0L));
+
+        anotherNode.update("update catalogue.t_product set c_title = 'Изменённый товар' where id = 1000");
+
+        awaitTrue(() -> cacheManager.getCache("products").get(1000) == null);
+        awaitTrue(() -> productSuggestionIndex.suggest("изменённый", 10)
+                .equals(List.of(new ProductSuggestion(1000, "Изменённый товар"))));
+    }
+
+    @Test
+    void productDeletedByAnotherNode_RemovesSuggestion() throws Exception {
+        anotherNode.update("insert into catalogue.t_product (id, c_title, c_details) values (1000, 'Удаляемый товар', null)");
+        awaitTrue(() -> !productSuggestionIndex.suggest("удаляемый", 10).isEmpty());
+
+        anotherNode.update("delete from catalogue.t_product where id = 1000");
+
+        awaitTrue(() -> productSuggestionIndex.suggest("удаляемый", 10).isEmpty());
+    }
+
+    @Test
+    void productsInsertedByOneStatement_PublishesOneNotificationForAllProducts() throws Exception {
+        anotherNode.update("""
+                insert into catalogue.t_product (id, c_title, c_details)
+                values (1000, 'Пакетный товар №1', null), (1001, 'Пакетный товар №2', null)""");
+
+        awaitTrue(() -> productSuggestionIndex.suggest("пакетный", 10).size() == 2);
+    }
+
+    @Test
+    void productUpdatedByThisNode_KeepsCachedProduct() throws Exception {
+        jdbcTemplate.update("""
+                insert into catalogue.t_product (id, c_title, c_details)
+                values (1000, 'Товар', null), (1001, 'Другой товар', null)""");
+        cacheManager.getCache("products").put(1000, new ProductView(1000, "Свой товар", null, 1L));
+        cacheManager.getCache("products").put(1001, new ProductView(1001, "Другой товар", null, 0L));
+
+        jdbcTemplate.update("update catalogue.t_product set c_title = 'Свой товар' where id = 1000");
+        anotherNode.update("update catalogue.t_product set c_title = 'Чужой товар' where id = 1001");
+
+        awaitTrue(() -> cacheManager.getCache("products").get(1001) == null);
+        assertEquals(new ProductView(1000, "Свой товар", null, 1L),
+                cacheManager.getCache("products").get(1000, ProductView.class));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition was not met in time");
+            Thread.sleep(50);
+        }
+    }
+}
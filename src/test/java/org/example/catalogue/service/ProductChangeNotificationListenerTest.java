@@ -0,0 +1,143 @@
+package org.example.catalogue.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeNotificationListenerTest {
+
+    @Mock
+    DataSource dataSource;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Mock
+    Cache cache;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    ProductChangeNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ProductChangeNotificationListener("this-node", dataSource, cacheManager, eventPublisher,
+                Duration.ofMillis(100), Duration.ofMillis(100), Duration.ofMillis(100), Duration.ofSeconds(1));
+    }
+
+    @Test
+    void apply_ProductsUpdatedByAnotherNode_EvictsCachedProductsAndPublishesSavedEvents() throws Exception {
+        doReturn(cache).when(cacheManager).getCache("products");
+        Connection connection = mock();
+        PreparedStatement statement = mock();
+        ResultSet resultSet = mock();
+        doReturn(statement).when(connection).prepareStatement(anyString());
+        doReturn(resultSet).when(statement).executeQuery();
+        doReturn(true, true, false).when(resultSet).next();
+        doReturn(1, 2).when(resultSet).getInt("id");
+        doReturn("Товар: новое название", "Товар №2").when(resultSet).getString("c_title");
+
+        listener.apply(connection, "other-node:UPDATE:1,2,3");
+
+        verify(cache).evict(1);
+        verify(cache).evict(2);
+        verify(cache).evict(3);
+        verify(eventPublisher).publishEvent(ProductChangedEvent.saved(1, "Товар: новое название"));
+        verify(eventPublisher).publishEvent(ProductChangedEvent.saved(2, "Товар №2"));
+        verify(eventPublisher).publishEvent(ProductChangedEvent.deleted(3));
+    }
+
+    @Test
+    void apply_ProductsDeletedByAnotherNode_EvictsCachedProductsAndPublishesDeletedEvents() throws Exception {
+        doReturn(cache).when(cacheManager).getCache("products");
+        Connection connection = mock();
+
+        listener.apply(connection, "other-node:DELETE:1,2");
+
+        verify(cache).evict(1);
+        verify(cache).evict(2);
+        verify(eventPublisher).publishEvent(ProductChangedEvent.deleted(1));
+        verify(eventPublisher).publishEvent(ProductChangedEvent.deleted(2));
+        verifyNoInteractions(connection);
+    }
+
+    @Test
+    void apply_ChangeMadeByThisNode_IgnoresNotification() throws Exception {
+        Connection connection = mock();
+
+        listener.apply(connection, "this-node:INSERT:1,2");
+        listener.apply(connection, "this-node:RESYNC");
+
+        verifyNoInteractions(connection, cacheManager, eventPublisher);
+    }
+
+    @Test
+    void apply_TooManyProductsChangedByAnotherNode_Resyncs() throws Exception {
+        doReturn(cache).when(cacheManager).getCache("products");
+
+        listener.apply(mock(Connection.class), "other-node:RESYNC");
+
+        verify(cache).clear();
+        verify(eventPublisher).publishEvent(new ProductChangesLostEvent());
+    }
+
+    @Test
+    void apply_PayloadIsMalformed_IgnoresNotification() throws Exception {
+        Connection connection = mock();
+
+        listener.apply(connection, "other-node:UPDATE:1,abc");
+        listener.apply(connection, "other-node:TRUNCATE:1");
+        listener.apply(connection, "UPDATE:1");
+
+        verifyNoInteractions(connection, cacheManager, eventPublisher);
+    }
+
+    @Test
+    void start_ListenerConnectionStopsAnswering_ReconnectsAndResyncs() throws Exception {
+        Connection connection = mock();
+        Statement statement = mock();
+        PGConnection pgConnection = mock();
+        doReturn(cache).when(cacheManager).getCache("products");
+        doReturn(connection).when(dataSource).getConnection();
+        doReturn(statement).when(connection).createStatement();
+        doReturn(pgConnection).when(connection).unwrap(PGConnection.class);
+        doThrow(new SQLException("Connection timed out")).when(statement).execute("select 1");
+
+        listener.start();
+        try {
+            verify(eventPublisher, timeout(5000)).publishEvent(new ProductChangesLostEvent());
+            verify(cache, atLeastOnce()).clear();
+            verify(dataSource, atLeast(2)).getConnection();
+        } finally {
+            listener.stop();
+        }
+    }
+
+    @Test
+    void resync_ClearsCacheAndPublishesChangesLostEvent() {
+        doReturn(cache).when(cacheManager).getCache("products");
+
+        listener.resync();
+
+        verify(cache).clear();
+        verify(eventPublisher).publishEvent(new ProductChangesLostEvent());
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.catalogue.service;
+
+import org.example.catalogue.entity.ProductSuggestion;
+import org.example.catalogue.entity.ProductView;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSuggestionIndexTest {
+
+    @Test
+    void suggest_ReturnsTitlesStartingWithPrefixIgnoringCase() {
+        var index = new ProductSuggestionIndex(10);
+        index.load(Stream.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L),
+                new ProductView(2, "ААаа", "аааа", 0L),
+                new ProductView(3, "товар №3", "Описание товара №3", 0L)));
+
+        var suggestions = index.suggest(" ТОВ", 10);
+
+        assertEquals(List.of(new ProductSuggestion(1, "Товар №1"), new ProductSuggestion(3, "товар №3")),
+                suggestions);
+    }
+
+    @Test
+    void suggest_LimitIsReached_ReturnsFirstSuggestions() {
+        var index = new ProductSuggestionIndex(10);
+        index.put(3, "Товар №3");
+        index.put(1, "Товар №1");
+        index.put(2, "Товар №2");
+
+        var suggestions = index.suggest("товар", 2);
+
+        assertEquals(List.of(new ProductSuggestion(1, "Товар №1"), new ProductSuggestion(2, "Товар №2")),
+                suggestions);
+    }
+
+    @Test
+    void put_ProductExists_ReplacesTitle() {
+        var index = new ProductSuggestionIndex(10);
+        index.put(1, "Товар №1");
+
+        index.put(1, "Новый товар");
+
+        assertEquals(List.of(), index.suggest("товар", 10));
+        assertEquals(List.of(new ProductSuggestion(1, "Новый товар")), index.suggest("нов", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void remove_ProductExists_RemovesSuggestion() {
+        var index = new ProductSuggestionIndex(10);
+        index.put(1, "Товар №1");
+
+        index.remove(1);
+
+        assertEquals(List.of(), index.suggest("товар", 10));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void put_IndexIsFull_IgnoresNewProductsButUpdatesExisting() {
+        var index = new ProductSuggestionIndex(1);
+        index.put(1, "Товар №1");
+
+        index.put(2, "Товар №2");
+        index.put(1, "Товар №1 обновлённый");
+
+        assertEquals(List.of(new ProductSuggestion(1, "Товар №1 обновлённый")), index.suggest("товар", 10));
+    }
+
+    @Test
+    void load_ProductChangedDuringLoad_KeepsChangedTitle() {
+        var index = new ProductSuggestionIndex(10);
+
+        index.load(Stream.of(new ProductView(1, "Товар №1", null, 0L), new ProductView(2, "Товар №2", null, 0L))
+                .peek(product -> {
+                    if (product.id() == 1) {
+                        index.onProductChanged(ProductChangedEvent.saved(2, "Новый товар"));
+                        index.onProductChanged(ProductChangedEvent.deleted(1));
+                    }
+                }));
+
+        assertEquals(List.of(new ProductSuggestion(2, "Новый товар")), index.suggest("нов", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void load_IndexIsNotEmpty_ReplacesStaleSuggestions() {
+        var index = new ProductSuggestionIndex(10);
+        index.put(1, "Товар №1");
+        index.put(2, "Товар №2");
+
+        index.load(Stream.of(new ProductView(2, "Новый товар", null, 1L)));
+
+        assertEquals(List.of(), index.suggest("товар", 10));
+        assertEquals(List.of(new ProductSuggestion(2, "Новый товар")), index.suggest("нов", 10));
+        assertEquals(1, index.size());
+    }
+}
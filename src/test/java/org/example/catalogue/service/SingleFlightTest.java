@@ -0,0 +1,137 @@
+package org.example.catalogue.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    SingleFlight<Integer, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+
+    @Test
+    void execute_ConcurrentCallsForSameKey_LoadsOnce() throws Exception {
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> singleFlight.execute(1, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "Товар №1";
+            }));
+            started.await();
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute(1, () -> {
+                    loads.incrementAndGet();
+                    return "Товар №1";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("Товар №1", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("Товар №1", follower.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void execute_PreviousCallCompleted_LoadsAgain() throws Exception {
+        var loads = new AtomicInteger();
+
+        singleFlight.execute(1, () -> "Товар №" + loads.incrementAndGet());
+        var result = singleFlight.execute(1, () -> "Товар №" + loads.incrementAndGet());
+
+        assertEquals("Товар №2", result);
+    }
+
+    @Test
+    void execute_LoaderFails_PropagatesErrorToWaitersAndForgetsCall() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> singleFlight.execute(1, () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("Ошибка загрузки");
+            }));
+            started.await();
+            var follower = executor.submit(() -> singleFlight.execute(1, () -> "Товар №1"));
+            Thread.sleep(100);
+            release.countDown();
+
+            var leaderException = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderException.getCause());
+            var followerException = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, followerException.getCause());
+        }
+
+        assertEquals("Товар №1", singleFlight.execute(1, () -> "Товар №1"));
+    }
+
+    @Test
+    void execute_LoaderIsSlowerThanTimeout_ThrowsTimeoutExceptionToWaiter() throws Exception {
+        var singleFlight = new SingleFlight<Integer, String>(Duration.ofMillis(50));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> singleFlight.execute(1, () -> {
+                started.countDown();
+                await(release);
+                return "Товар №1";
+            }));
+            started.await();
+
+            assertThrows(TimeoutException.class, () -> singleFlight.execute(1, () -> "Товар №1"));
+            assertEquals("Товар №2", singleFlight.execute(2, () -> "Товар №2"));
+
+            release.countDown();
+            assertEquals("Товар №1", leader.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void execute_WaiterTimedOut_NextCallStartsNewLoad() throws Exception {
+        var singleFlight = new SingleFlight<Integer, String>(Duration.ofMillis(50));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> singleFlight.execute(1, () -> {
+                started.countDown();
+                await(release);
+                return "Товар №1";
+            }));
+            started.await();
+            assertThrows(TimeoutException.class, () -> singleFlight.execute(1, () -> "Товар №1"));
+
+            assertEquals("Новый товар №1", singleFlight.execute(1, () -> "Новый товар №1"));
+
+            release.countDown();
+            assertEquals("Товар №1", leader.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
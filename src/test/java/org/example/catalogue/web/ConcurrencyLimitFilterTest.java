@@ -0,0 +1,78 @@
+package org.example.catalogue.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void doFilter_PermitAvailable_InvokesChainAndReleasesPermit() throws Exception {
+        var permits = new Semaphore(1);
+        var filter = new ConcurrencyLimitFilter(permits, Duration.ofMillis(10),
+                HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1));
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/catalogue-api/products"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(1, permits.availablePermits());
+    }
+
+    @Test
+    void doFilter_ResponseContinuesAsynchronously_ReleasesPermitWhenAsyncCompletes() throws Exception {
+        var permits = new Semaphore(1);
+        var filter = new ConcurrencyLimitFilter(permits, Duration.ofMillis(10),
+                HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1));
+        var request = new MockHttpServletRequest("GET", "/catalogue-api/products");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) ->
+                servletRequest.startAsync());
+
+        assertEquals(0, permits.availablePermits());
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(1, permits.availablePermits());
+    }
+
+    @Test
+    void doFilter_NoPermitAvailable_ReturnsServiceUnavailable() throws Exception {
+        var permits = new Semaphore(0);
+        var filter = new ConcurrencyLimitFilter(permits, Duration.ofMillis(10),
+                HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1));
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/catalogue-api/products"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(0, permits.availablePermits());
+    }
+
+    @Test
+    void doFilter_NoPermitAvailable_ReturnsConfiguredStatusAndRetryAfter() throws Exception {
+        var filter = new ConcurrencyLimitFilter(new Semaphore(0), Duration.ofMillis(10),
+                HttpStatus.TOO_MANY_REQUESTS, Duration.ofSeconds(3));
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/catalogue-api/products"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+}
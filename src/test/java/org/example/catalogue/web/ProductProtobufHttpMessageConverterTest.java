@@ -0,0 +1,124 @@
+package org.example.catalogue.web;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.example.catalogue.controller.payload.NewProductPayload;
+import org.example.catalogue.controller.payload.UpdateProductPayload;
+import org.example.catalogue.entity.Product;
+import org.example.catalogue.entity.ProductView;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductProtobufHttpMessageConverterTest {
+
+    ProductProtobufHttpMessageConverter converter = new ProductProtobufHttpMessageConverter();
+
+    @Test
+    void canWrite_ProductTypes_ReturnsTrue() {
+        var productListType = new ParameterizedTypeReference<List<ProductView>>() {
+        }.getType();
+
+        assertTrue(converter.canWrite(ProductView.class, ProductView.class,
+                ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(Product.class, Product.class,
+                ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(productListType, List.class,
+                ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(productListType, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(String.class, String.class,
+                ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    void write_ProductList_WritesProductListMessage() throws IOException {
+        var outputMessage = new MockHttpOutputMessage();
+
+        converter.write(List.of(new ProductView(1, "Товар №1", "Описание товара №1", 0L),
+                        new ProductView(2, "Товар №2", null, 0L)),
+                new ParameterizedTypeReference<List<ProductView>>() {
+                }.getType(), ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF, outputMessage);
+
+        var input = CodedInputStream.newInstance(outputMessage.getBodyAsBytes());
+        assertEquals(List.of(new ProductView(1, "Товар №1", "Описание товара №1", null),
+                new ProductView(2, "Товар №2", null, null)), List.of(readProduct(input), readProduct(input)));
+        assertTrue(input.isAtEnd());
+        assertEquals(ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF,
+                outputMessage.getHeaders().getContentType());
+    }
+
+    @Test
+    void read_NewProductPayload_ReturnsPayload() throws IOException {
+        var inputMessage = new MockHttpInputMessage(encodePayload("Новый товар", null));
+
+        var payload = converter.read(NewProductPayload.class, null, inputMessage);
+
+        assertEquals(new NewProductPayload("Новый товар", null), payload);
+    }
+
+    @Test
+    void read_UpdateProductPayloadWithUnknownField_SkipsUnknownField() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var output = CodedOutputStream.newInstance(bytes);
+        output.writeInt64(15, 42);
+        output.writeString(1, "Новое название");
+        output.writeString(2, "Новое описание");
+        output.flush();
+
+        var payload = converter.read(UpdateProductPayload.class, null, new MockHttpInputMessage(bytes.toByteArray()));
+
+        assertEquals(new UpdateProductPayload("Новое название", "Новое описание"), payload);
+    }
+
+    @Test
+    void read_PayloadIsTruncated_ThrowsHttpMessageNotReadableException() {
+        var bytes = encodePayload("Новый товар", "Описание");
+        var truncated = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(NewProductPayload.class, null, new MockHttpInputMessage(truncated)));
+    }
+
+    private static ProductView readProduct(CodedInputStream input) throws IOException {
+        assertEquals(1, input.readTag() >>> 3);
+        int limit = input.pushLimit(input.readRawVarint32());
+        Integer id = null;
+        String title = null;
+        String details = null;
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag >>> 3) {
+                case 1 -> id = input.readInt32();
+                case 2 -> title = input.readString();
+                case 3 -> details = input.readString();
+                default -> input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return new ProductView(id, title, details, null);
+    }
+
+    private static byte[] encodePayload(String title, String details) {
+        try {
+            var bytes = new ByteArrayOutputStream();
+            var output = CodedOutputStream.newInstance(bytes);
+            output.writeString(1, title);
+            if (details != null) {
+                output.writeString(2, details);
+            }
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
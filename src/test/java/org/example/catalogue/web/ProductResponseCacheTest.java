@@ -0,0 +1,111 @@
+package org.example.catalogue.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.catalogue.entity.ProductView;
+import org.example.catalogue.service.ProductChangedEvent;
+import org.example.catalogue.service.ProductChangesLostEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductResponseCacheTest {
+
+    ProductView product = new ProductView(1, "Товар №1", "Описание товара №1", 0L);
+
+    @Test
+    void find_AcceptIsJson_ReturnsEncodedJsonAndReusesBytes() {
+        var cache = cache(10);
+
+        var first = cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+        var second = cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+
+        assertEquals(MediaType.APPLICATION_JSON, first.contentType());
+        assertEquals("\"0-json\"", first.eTag());
+        assertEquals("{\"id\":1,\"title\":\"Товар №1\",\"details\":\"Описание товара №1\"}",
+                new String(first.body(), StandardCharsets.UTF_8));
+        assertSame(first.body(), second.body());
+    }
+
+    @Test
+    void find_AcceptIsProtobuf_ReturnsEncodedProtobuf() {
+        var cache = cache(10);
+
+        var encoded = cache.find(product, request(ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF_VALUE))
+                .orElseThrow();
+
+        assertEquals(ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF, encoded.contentType());
+        assertEquals("\"0-x-protobuf\"", encoded.eTag());
+        assertEquals(0x08, encoded.body()[0]);
+    }
+
+    @Test
+    void find_AcceptIsNotProducible_ReturnsEmptyOptional() {
+        var cache = cache(10);
+
+        assertTrue(cache.find(product, request(MediaType.APPLICATION_XML_VALUE)).isEmpty());
+    }
+
+    @Test
+    void find_ProductVersionChanged_EncodesProductAgain() {
+        var cache = cache(10);
+        var first = cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+
+        var second = cache.find(new ProductView(1, "Новый товар", null, 1L),
+                request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+
+        assertNotSame(first.body(), second.body());
+        assertEquals(1L, second.version());
+    }
+
+    @Test
+    void onProductChanged_EvictsEncodedProduct() {
+        var cache = cache(10);
+        var first = cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+
+        cache.onProductChanged(ProductChangedEvent.deleted(1));
+        var second = cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+
+        assertNotSame(first.body(), second.body());
+    }
+
+    @Test
+    void onProductChangesLost_EvictsAllEncodedProducts() {
+        var cache = cache(10);
+        var first = cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+
+        cache.onProductChangesLost(new ProductChangesLostEvent());
+        var second = cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).orElseThrow();
+
+        assertNotSame(first.body(), second.body());
+    }
+
+    @Test
+    void find_CacheIsDisabled_ReturnsEmptyOptional() {
+        var cache = cache(0);
+
+        assertTrue(cache.find(product, request(MediaType.APPLICATION_JSON_VALUE)).isEmpty());
+    }
+
+    private static ProductResponseCache cache(long maximumSize) {
+        return new ProductResponseCache(List.of(
+                new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()),
+                new ProductProtobufHttpMessageConverter()),
+                new ContentNegotiationManager(), maximumSize, new SimpleMeterRegistry());
+    }
+
+    private static ServletWebRequest request(String accept) {
+        var request = new MockHttpServletRequest("GET", "/catalogue-api/products/1");
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.catalogue.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.catalogue.repository.ReplicaDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+    Cache<String, Boolean> recentWriters = Caffeine.newBuilder().build();
+
+    ReadYourWritesFilter filter = new ReadYourWritesFilter(recentWriters);
+
+    @Test
+    void doFilter_SuccessfulPatch_RemembersClient() throws Exception {
+        filter.doFilter(request("PATCH", "client"), new MockHttpServletResponse(), (request, response) -> {});
+
+        assertEquals(Boolean.TRUE, recentWriters.getIfPresent("client"));
+    }
+
+    @Test
+    void doFilter_FailedPost_DoesNotRememberClient() throws Exception {
+        filter.doFilter(request("POST", "client"), new MockHttpServletResponse(),
+                (request, response) -> ((MockHttpServletResponse) response).setStatus(HttpStatus.BAD_REQUEST.value()));
+
+        assertNull(recentWriters.getIfPresent("client"));
+    }
+
+    @Test
+    void doFilter_Get_DoesNotRememberClient() throws Exception {
+        filter.doFilter(request("GET", "client"), new MockHttpServletResponse(), (request, response) -> {});
+
+        assertNull(recentWriters.getIfPresent("client"));
+    }
+
+    @Test
+    void doFilter_ClientWroteRecently_RequiresPrimaryForRequest() throws Exception {
+        recentWriters.put("client", Boolean.TRUE);
+        var primaryRequired = new AtomicBoolean();
+
+        filter.doFilter(request("GET", "client"), new MockHttpServletResponse(),
+                (request, response) -> primaryRequired.set(ReplicaDataSource.isPrimaryRequired()));
+
+        assertTrue(primaryRequired.get());
+        assertFalse(ReplicaDataSource.isPrimaryRequired());
+    }
+
+    @Test
+    void doFilter_AnotherClientWroteRecently_AllowsReplica() throws Exception {
+        recentWriters.put("another-client", Boolean.TRUE);
+        var primaryRequired = new AtomicBoolean(true);
+
+        filter.doFilter(request("GET", "client"), new MockHttpServletResponse(),
+                (request, response) -> primaryRequired.set(ReplicaDataSource.isPrimaryRequired()));
+
+        assertFalse(primaryRequired.get());
+    }
+
+    private static MockHttpServletRequest request(String method, String client) {
+        var request = new MockHttpServletRequest(method, "/catalogue-api/products/1");
+        request.setUserPrincipal(new TestingAuthenticationToken(client, null));
+        return request;
+    }
+}
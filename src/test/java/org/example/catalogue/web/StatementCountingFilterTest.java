@@ -0,0 +1,44 @@
+package org.example.catalogue.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountingFilterTest {
+
+    @Test
+    void doFilter_RecordsStatementsExecutedDuringRequest() throws Exception {
+        var statementCounter = new StatementCounter();
+        var meterRegistry = new SimpleMeterRegistry();
+        var filter = new StatementCountingFilter(statementCounter, meterRegistry);
+        var request = new MockHttpServletRequest("GET", "/catalogue-api/products/1");
+        var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                        "/catalogue-api/products/{productId}");
+                statementCounter.inspect("select 1");
+                statementCounter.inspect("select 2");
+            }
+        });
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        var summary = meterRegistry.get("catalogue.hibernate.statements")
+                .tag("method", "GET")
+                .tag("uri", "/catalogue-api/products/{productId}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+        assertEquals("select 3", statementCounter.inspect("select 3"));
+    }
+}